@@ -1,15 +1,17 @@
 package model;
 
 import org.json.JSONObject;
+import persistence.JsonStreamWriter;
 import persistence.Saveable;
 
+import java.io.IOException;
 import java.util.Calendar;
 
 // represents an appointment with a name, description, and timeframe
 public class Appointment implements Comparable<Appointment>, Schedulable, Saveable {
     private String name;
     private String description;
-    private CalendarInterval timePeriod;
+    private TimeSpan timePeriod;
 
     // EFFECTS: initializes an empty appointment for use in UI
     public Appointment() {
@@ -21,7 +23,7 @@ public class Appointment implements Comparable<Appointment>, Schedulable, Saveab
     public Appointment(Appointment toClone) {
         this.name = toClone.getName();
         this.description = toClone.getDescription();
-        this.timePeriod = new CalendarInterval(toClone.getTimePeriod());
+        this.timePeriod = toClone.getSpan();
     }
 
     // EFFECTS: initializes an appointment with given name, given description,
@@ -30,7 +32,7 @@ public class Appointment implements Comparable<Appointment>, Schedulable, Saveab
     public Appointment(String name, String desc, Calendar date, int hours, int minutes) {
         this.name = name;
         this.description = desc;
-        this.timePeriod = new CalendarInterval(date, hours, minutes);
+        this.timePeriod = TimeSpan.of(date, hours, minutes);
     }
 
     public void setName(String name) {
@@ -44,7 +46,7 @@ public class Appointment implements Comparable<Appointment>, Schedulable, Saveab
     // EFFECTS: sets time period to given, or null if given null
     public void setTimePeriod(CalendarInterval interval) {
         if (interval != null) {
-            this.timePeriod = new CalendarInterval(interval);
+            this.timePeriod = interval.getSpan();
         } else {
             this.timePeriod = null;
         }
@@ -58,25 +60,46 @@ public class Appointment implements Comparable<Appointment>, Schedulable, Saveab
         return this.description;
     }
 
-    public CalendarInterval getTimePeriod() {
+    public TimeSpan getSpan() {
         return this.timePeriod;
     }
 
+    // EFFECTS: returns a copy of the time period of this appointment, or null if not set;
+    //          changes to the copy must be given back through setTimePeriod
+    public CalendarInterval getTimePeriod() {
+        if (this.timePeriod != null) {
+            return new CalendarInterval(this.timePeriod);
+        } else {
+            return null;
+        }
+    }
+
     // EFFECTS: returns starting date/time of appointment
     public Calendar getStartTime() {
-        return this.timePeriod.getStart();
+        return TimeSpan.toCalendar(this.timePeriod.getStart());
     }
 
     // EFFECTS: returns ending date/time of appointment
     public Calendar getEndTime() {
+        return TimeSpan.toCalendar(this.timePeriod.getEnd());
+    }
+
+    // EFFECTS: returns starting date/time of appointment in milliseconds
+    @Override
+    public long getStartMillis() {
+        return this.timePeriod.getStart();
+    }
+
+    // EFFECTS: returns ending date/time of appointment in milliseconds
+    @Override
+    public long getEndMillis() {
         return this.timePeriod.getEnd();
     }
 
     // EFFECTS: returns true if this appointment's starting time is today
     @Override
     public boolean isToday() {
-        CalendarInterval today = new CalendarInterval(Calendar.getInstance());
-        return today.during(this.timePeriod.getStart());
+        return PlannerClock.getCurrent().today().during(this.timePeriod.getStart());
     }
 
     // EFFECTS: returns -1 if this appointment starts before given appointment,
@@ -84,15 +107,7 @@ public class Appointment implements Comparable<Appointment>, Schedulable, Saveab
     //          appointment, otherwise returns 1 for this appointment being after
     @Override
     public int compareTo(Appointment other) {
-        Calendar thisStart = this.timePeriod.getStart();
-        Calendar otherStart = other.getStartTime();
-        if (thisStart.equals(otherStart)) {
-            return 0;
-        } else if (thisStart.before(otherStart)) {
-            return -1;
-        } else {
-            return 1;
-        }
+        return Long.compare(this.timePeriod.getStart(), other.getStartMillis());
     }
 
     // EFFECTS: returns this appointment as a JSON object
@@ -101,9 +116,21 @@ public class Appointment implements Comparable<Appointment>, Schedulable, Saveab
         JSONObject obj = new JSONObject();
         obj.put("name", this.name);
         obj.put("description", this.description);
-        obj.put("date", this.timePeriod.getStart().getTimeInMillis());
+        obj.put("date", this.timePeriod.getStart());
         obj.put("hours", this.timePeriod.getHours());
         obj.put("minutes", this.timePeriod.getMinutes());
         return obj;
     }
+
+    // EFFECTS: writes this appointment to the given JSON writer
+    @Override
+    public void write(JsonStreamWriter writer) throws IOException {
+        writer.beginObject()
+                .name("name").value(this.name)
+                .name("description").value(this.description)
+                .name("date").value(this.timePeriod.getStart())
+                .name("hours").value(this.timePeriod.getHours())
+                .name("minutes").value(this.timePeriod.getMinutes())
+                .endObject();
+    }
 }
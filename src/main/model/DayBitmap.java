@@ -0,0 +1,144 @@
+package model;
+
+import java.util.BitSet;
+import java.util.Map;
+import java.util.TreeMap;
+
+// represents a set of days since the epoch as a bitmap with one bit per day, split into
+// chunks of 1024 days so that only stretches of time containing a day take up memory
+public class DayBitmap {
+    private static final int CHUNK_BITS = 10;
+    private static final int DAYS_PER_CHUNK = 1 << CHUNK_BITS;
+    private static final int WORDS_PER_CHUNK = DAYS_PER_CHUNK / Long.SIZE;
+
+    private TreeMap<Long, long[]> chunks;
+    private long cardinality;
+
+    // EFFECTS: initializes an empty bitmap
+    public DayBitmap() {
+        this.chunks = new TreeMap<>();
+        this.cardinality = 0;
+    }
+
+    // EFFECTS: returns the number of days in the bitmap
+    public long cardinality() {
+        return this.cardinality;
+    }
+
+    // EFFECTS: returns true if the given day is in the bitmap
+    public boolean get(long day) {
+        long[] words = this.chunks.get(day >> CHUNK_BITS);
+        return words != null && (words[wordIndex(day)] & bit(day)) != 0;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: adds the given day to the bitmap
+    public void set(long day) {
+        long[] words = this.chunks.computeIfAbsent(day >> CHUNK_BITS, k -> new long[WORDS_PER_CHUNK]);
+        int index = wordIndex(day);
+        if ((words[index] & bit(day)) == 0) {
+            words[index] |= bit(day);
+            this.cardinality++;
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: removes the given day from the bitmap, dropping its chunk if left empty
+    public void clear(long day) {
+        long[] words = this.chunks.get(day >> CHUNK_BITS);
+        int index = wordIndex(day);
+        if (words != null && (words[index] & bit(day)) != 0) {
+            words[index] &= ~bit(day);
+            this.cardinality--;
+            if (isEmpty(words)) {
+                this.chunks.remove(day >> CHUNK_BITS);
+            }
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: removes every day from the bitmap
+    public void clearAll() {
+        this.chunks.clear();
+        this.cardinality = 0;
+    }
+
+    // EFFECTS: returns the number of days in the bitmap from fromDay (inclusive)
+    //          to toDay (exclusive)
+    public long count(long fromDay, long toDay) {
+        long count = 0;
+        for (Map.Entry<Long, long[]> chunk : chunksBetween(fromDay, toDay).entrySet()) {
+            long base = chunk.getKey() << CHUNK_BITS;
+            int from = (int) (Math.max(fromDay, base) - base);
+            int to = (int) (Math.min(toDay, base + DAYS_PER_CHUNK) - base);
+            count += countBits(chunk.getValue(), from, to);
+        }
+        return count;
+    }
+
+    // EFFECTS: returns the days from fromDay (inclusive) to toDay (exclusive) as a BitSet
+    //          where bit i is set if the day fromDay + i is in the bitmap
+    public BitSet slice(long fromDay, long toDay) {
+        BitSet result = new BitSet((int) Math.max(0, toDay - fromDay));
+        for (Map.Entry<Long, long[]> chunk : chunksBetween(fromDay, toDay).entrySet()) {
+            long base = chunk.getKey() << CHUNK_BITS;
+            long[] words = chunk.getValue();
+            for (int i = 0; i < WORDS_PER_CHUNK; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    long day = base + i * Long.SIZE + Long.numberOfTrailingZeros(word);
+                    if (day >= fromDay && day < toDay) {
+                        result.set((int) (day - fromDay));
+                    }
+                    word &= word - 1;
+                }
+            }
+        }
+        return result;
+    }
+
+    // EFFECTS: returns the chunks that hold any day from fromDay (inclusive) to toDay (exclusive)
+    private Map<Long, long[]> chunksBetween(long fromDay, long toDay) {
+        if (fromDay >= toDay) {
+            return new TreeMap<>();
+        }
+        return this.chunks.subMap(fromDay >> CHUNK_BITS, true, (toDay - 1) >> CHUNK_BITS, true);
+    }
+
+    // EFFECTS: returns the number of set bits in words from bit from (inclusive) to to (exclusive)
+    private static long countBits(long[] words, int from, int to) {
+        long count = 0;
+        for (int i = from / Long.SIZE; from < to && i <= (to - 1) / Long.SIZE; i++) {
+            long word = words[i];
+            int low = i * Long.SIZE;
+            if (from > low) {
+                word &= -1L << (from - low);
+            }
+            if (to < low + Long.SIZE) {
+                word &= (1L << (to - low)) - 1;
+            }
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    // EFFECTS: returns true if no bits are set in words
+    private static boolean isEmpty(long[] words) {
+        for (long word : words) {
+            if (word != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // EFFECTS: returns the index of the word within its chunk holding the given day
+    private static int wordIndex(long day) {
+        return (int) (day & (DAYS_PER_CHUNK - 1)) / Long.SIZE;
+    }
+
+    // EFFECTS: returns the mask of the bit within its word for the given day
+    private static long bit(long day) {
+        return 1L << (day & (Long.SIZE - 1));
+    }
+}
@@ -2,17 +2,36 @@ package model;
 
 import org.json.JSONArray;
 import org.json.JSONObject;
+import persistence.JsonStreamWriter;
 import persistence.Saveable;
 
+import java.io.IOException;
 import java.util.ArrayList;
 
-// represents a list of habits to track, just a wrapper class
-public class HabitTrackers implements Saveable {
+// represents a list of habits to track, telling its observers about trackers added and
+// removed and about completions marked and unmarked on them
+public class HabitTrackers extends Subject implements Saveable, PlannerObserver {
+    private static final String SECTION = "habit trackers";
+
     private ArrayList<Tracker> internalArray;
+    private boolean dirty;
 
     // EFFECTS: initializes new blank list of habit trackers
     public HabitTrackers() {
         this.internalArray = new ArrayList<>();
+        this.dirty = false;
+    }
+
+    // EFFECTS: returns true if the list or any of its trackers has changed since it was
+    //          last marked clean
+    public boolean isDirty() {
+        return this.dirty;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: marks the list as matching what was last saved
+    public void markClean() {
+        this.dirty = false;
     }
 
     // EFFECTS: returns tracker at given index
@@ -24,13 +43,21 @@ public class HabitTrackers implements Saveable {
     // EFFECTS: adds a tracker to the list
     public void addTracker(Tracker toAdd) {
         this.internalArray.add(toAdd);
+        toAdd.addObserver(this);
+        this.dirty = true;
+        if (hasObservers()) {
+            notifyObservers(new PlannerEvent(PlannerEvent.Kind.ADD, SECTION, this.internalArray.size() - 1, toAdd, 0));
+        }
     }
 
     // REQUIRES: valid index
     // MODIFIES this
     // EFFECTS: removes the tracker at given index from the list
     public void removeTracker(int index) {
-        this.internalArray.remove(index);
+        Tracker removed = this.internalArray.remove(index);
+        removed.removeObserver(this);
+        this.dirty = true;
+        notifyObservers(new PlannerEvent(PlannerEvent.Kind.REMOVE, SECTION, index, removed, 0));
     }
 
     // EFFECTS: returns number of habit trackers
@@ -43,6 +70,18 @@ public class HabitTrackers implements Saveable {
         return this.internalArray.contains(tracker);
     }
 
+    // EFFECTS: passes on a change made to one of the trackers in this list, with its index
+    @Override
+    public void update(PlannerEvent event) {
+        for (int i = 0; i < this.internalArray.size(); i++) {
+            if (this.internalArray.get(i) == event.getItem()) {
+                this.dirty = true;
+                notifyObservers(event.inSection(SECTION, i));
+                return;
+            }
+        }
+    }
+
     // EFFECTS: returns this as a JSON object
     @Override
     public JSONObject toJson() {
@@ -52,7 +91,17 @@ public class HabitTrackers implements Saveable {
         }
 
         JSONObject obj = new JSONObject();
-        obj.put("habit trackers", arr);
+        obj.put(SECTION, arr);
         return obj;
     }
+
+    // EFFECTS: writes this list of trackers to the given JSON writer
+    @Override
+    public void write(JsonStreamWriter writer) throws IOException {
+        writer.beginObject().name(SECTION).beginArray();
+        for (Tracker t : this.internalArray) {
+            t.write(writer);
+        }
+        writer.endArray().endObject();
+    }
 }
@@ -0,0 +1,281 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// represents an index of schedulable items by time, stored as a balanced (AVL) search
+// tree keyed by start time where each node also knows the latest end time below it,
+// so overlap queries only visit subtrees that can contain a match
+public class IntervalTree<T extends Schedulable> {
+    private Node<T> root;
+    private int size;
+
+    // represents a node of the tree holding every item that starts at the same time
+    private static class Node<T extends Schedulable> {
+        private final long start;
+        private final ArrayList<T> items;
+        private long itemsMaxEnd;
+        private long maxEnd;
+        private int height;
+        private Node<T> left;
+        private Node<T> right;
+
+        // EFFECTS: initializes a leaf node holding the given item
+        private Node(T item) {
+            this.start = item.getStartMillis();
+            this.items = new ArrayList<>(1);
+            this.items.add(item);
+            this.itemsMaxEnd = item.getEndMillis();
+            this.maxEnd = this.itemsMaxEnd;
+            this.height = 1;
+        }
+    }
+
+    // EFFECTS: initializes an empty tree
+    public IntervalTree() {
+        this.root = null;
+        this.size = 0;
+    }
+
+    // EFFECTS: returns number of items in the tree
+    public int size() {
+        return this.size;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: adds given item to the tree, after any items starting at the same time
+    public void insert(T item) {
+        this.root = insert(this.root, item);
+        this.size++;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: removes given item from the tree, returns true if it was in the tree
+    public boolean remove(T item) {
+        int before = this.size;
+        this.root = remove(this.root, item.getStartMillis(), item);
+        return this.size < before;
+    }
+
+    // REQUIRES: items are in chronological order
+    // MODIFIES: this
+    // EFFECTS: replaces the contents of the tree with the given items
+    public void rebuild(List<T> items) {
+        ArrayList<Node<T>> nodes = new ArrayList<>();
+        for (T item : items) {
+            Node<T> last = nodes.isEmpty() ? null : nodes.get(nodes.size() - 1);
+            if (last != null && last.start == item.getStartMillis()) {
+                last.items.add(item);
+                last.itemsMaxEnd = Math.max(last.itemsMaxEnd, item.getEndMillis());
+            } else {
+                nodes.add(new Node<>(item));
+            }
+        }
+        this.root = build(nodes, 0, nodes.size() - 1);
+        this.size = items.size();
+    }
+
+    // EFFECTS: returns all items overlapping the time from (inclusive) to to (exclusive),
+    //          in chronological order
+    public List<T> overlapping(long from, long to) {
+        ArrayList<T> result = new ArrayList<>();
+        collect(this.root, from, to, result);
+        return result;
+    }
+
+    // EFFECTS: returns true if any item other than ignored overlaps the time
+    //          from (inclusive) to to (exclusive)
+    public boolean anyOverlapping(long from, long to, T ignored) {
+        return find(this.root, from, to, ignored);
+    }
+
+    // EFFECTS: returns true if an item starting at start and ending at end overlaps the time
+    //          from (inclusive) to to (exclusive); an item with no length overlaps if it
+    //          falls within the time
+    static boolean overlaps(long start, long end, long from, long to) {
+        return start < to && (from < end || (start == end && from <= start));
+    }
+
+    // MODIFIES: node
+    // EFFECTS: adds item to the subtree at node and returns the new subtree root
+    private Node<T> insert(Node<T> node, T item) {
+        if (node == null) {
+            return new Node<>(item);
+        }
+        long start = item.getStartMillis();
+        if (start < node.start) {
+            node.left = insert(node.left, item);
+        } else if (start > node.start) {
+            node.right = insert(node.right, item);
+        } else {
+            node.items.add(item);
+            node.itemsMaxEnd = Math.max(node.itemsMaxEnd, item.getEndMillis());
+        }
+        return rebalance(node);
+    }
+
+    // MODIFIES: this, node
+    // EFFECTS: removes item starting at start from the subtree at node and returns the
+    //          new subtree root
+    private Node<T> remove(Node<T> node, long start, T item) {
+        if (node == null) {
+            return null;
+        }
+        if (start < node.start) {
+            node.left = remove(node.left, start, item);
+        } else if (start > node.start) {
+            node.right = remove(node.right, start, item);
+        } else if (node.items.remove(item)) {
+            this.size--;
+            if (node.items.isEmpty()) {
+                return removeNode(node);
+            }
+            node.itemsMaxEnd = itemsMaxEnd(node.items);
+        }
+        return rebalance(node);
+    }
+
+    // EFFECTS: returns the subtree that replaces the given node once it is deleted
+    private Node<T> removeNode(Node<T> node) {
+        if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        }
+        Node<T> successor = node.right;
+        while (successor.left != null) {
+            successor = successor.left;
+        }
+        successor.right = removeMin(node.right);
+        successor.left = node.left;
+        return rebalance(successor);
+    }
+
+    // MODIFIES: node
+    // EFFECTS: detaches the earliest node of the subtree at node and returns the new root
+    private Node<T> removeMin(Node<T> node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        node.left = removeMin(node.left);
+        return rebalance(node);
+    }
+
+    // EFFECTS: returns a balanced subtree of nodes between low and high inclusive
+    private Node<T> build(ArrayList<Node<T>> nodes, int low, int high) {
+        if (low > high) {
+            return null;
+        }
+        int mid = (low + high) >>> 1;
+        Node<T> node = nodes.get(mid);
+        node.left = build(nodes, low, mid - 1);
+        node.right = build(nodes, mid + 1, high);
+        update(node);
+        return node;
+    }
+
+    // MODIFIES: result
+    // EFFECTS: adds items of the subtree at node overlapping from to to into result
+    private void collect(Node<T> node, long from, long to, List<T> result) {
+        if (node == null || node.maxEnd < from) {
+            return;
+        }
+        collect(node.left, from, to, result);
+        if (node.start < to) {
+            for (T item : node.items) {
+                if (overlaps(node.start, item.getEndMillis(), from, to)) {
+                    result.add(item);
+                }
+            }
+            collect(node.right, from, to, result);
+        }
+    }
+
+    // EFFECTS: returns true if the subtree at node has an item other than ignored
+    //          overlapping from to to
+    private boolean find(Node<T> node, long from, long to, T ignored) {
+        if (node == null || node.maxEnd < from) {
+            return false;
+        }
+        if (find(node.left, from, to, ignored)) {
+            return true;
+        }
+        if (node.start >= to) {
+            return false;
+        }
+        for (T item : node.items) {
+            if (item != ignored && overlaps(node.start, item.getEndMillis(), from, to)) {
+                return true;
+            }
+        }
+        return find(node.right, from, to, ignored);
+    }
+
+    // MODIFIES: node
+    // EFFECTS: restores balance of node's subtree and returns its new root
+    private Node<T> rebalance(Node<T> node) {
+        update(node);
+        int balance = height(node.left) - height(node.right);
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        } else if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    // MODIFIES: node
+    // EFFECTS: rotates node's subtree to the right and returns its new root
+    private Node<T> rotateRight(Node<T> node) {
+        Node<T> newRoot = node.left;
+        node.left = newRoot.right;
+        newRoot.right = node;
+        update(node);
+        update(newRoot);
+        return newRoot;
+    }
+
+    // MODIFIES: node
+    // EFFECTS: rotates node's subtree to the left and returns its new root
+    private Node<T> rotateLeft(Node<T> node) {
+        Node<T> newRoot = node.right;
+        node.right = newRoot.left;
+        newRoot.left = node;
+        update(node);
+        update(newRoot);
+        return newRoot;
+    }
+
+    // MODIFIES: node
+    // EFFECTS: recalculates node's height and latest end time from its children
+    private void update(Node<T> node) {
+        node.height = 1 + Math.max(height(node.left), height(node.right));
+        node.maxEnd = node.itemsMaxEnd;
+        if (node.left != null) {
+            node.maxEnd = Math.max(node.maxEnd, node.left.maxEnd);
+        }
+        if (node.right != null) {
+            node.maxEnd = Math.max(node.maxEnd, node.right.maxEnd);
+        }
+    }
+
+    // EFFECTS: returns height of given subtree, 0 if empty
+    private int height(Node<T> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    // EFFECTS: returns the latest end time of the given items
+    private long itemsMaxEnd(List<T> items) {
+        long max = Long.MIN_VALUE;
+        for (T item : items) {
+            max = Math.max(max, item.getEndMillis());
+        }
+        return max;
+    }
+}
@@ -0,0 +1,32 @@
+package model;
+
+// represents everything in a life planner: appointments, tasks, and habit trackers
+public class Planner {
+    private ScheduledList<Appointment> appointments;
+    private ScheduledList<Task> tasks;
+    private HabitTrackers habits;
+
+    // EFFECTS: initializes an empty planner
+    public Planner() {
+        this(new ScheduledList<>("appointments"), new ScheduledList<>("tasks"), new HabitTrackers());
+    }
+
+    // EFFECTS: initializes a planner with the given appointments, tasks, and habit trackers
+    public Planner(ScheduledList<Appointment> appointments, ScheduledList<Task> tasks, HabitTrackers habits) {
+        this.appointments = appointments;
+        this.tasks = tasks;
+        this.habits = habits;
+    }
+
+    public ScheduledList<Appointment> getAppointments() {
+        return this.appointments;
+    }
+
+    public ScheduledList<Task> getTasks() {
+        return this.tasks;
+    }
+
+    public HabitTrackers getHabits() {
+        return this.habits;
+    }
+}
@@ -0,0 +1,98 @@
+package model;
+
+import java.util.Calendar;
+import java.util.TimeZone;
+
+// represents the planner-wide source of the current time, shared by all schedulable items;
+// the bounds of the current day are cached until the day rolls over, and the clock can be
+// replaced to pin the time for tests and replays
+public class PlannerClock {
+    private static final long MILLIS_PER_DAY = 86400000L;
+    private static PlannerClock current = new PlannerClock();
+
+    private final TimeZone zone;
+    private volatile TimeSpan today;
+
+    // EFFECTS: initializes a clock following the system time in the default time zone
+    public PlannerClock() {
+        this(TimeZone.getDefault());
+    }
+
+    // EFFECTS: initializes a clock following the system time in the given time zone
+    public PlannerClock(TimeZone zone) {
+        this.zone = zone;
+        this.today = null;
+    }
+
+    // EFFECTS: returns the clock used by the planner
+    public static PlannerClock getCurrent() {
+        return current;
+    }
+
+    // EFFECTS: sets the clock used by the planner
+    public static void setCurrent(PlannerClock clock) {
+        current = clock;
+    }
+
+    // EFFECTS: returns a clock in the default time zone that always reads the given time
+    public static PlannerClock fixedAt(long millis) {
+        return new PlannerClock() {
+            @Override
+            public long now() {
+                return millis;
+            }
+        };
+    }
+
+    // EFFECTS: returns the time zone that days are counted in
+    public TimeZone getZone() {
+        return this.zone;
+    }
+
+    // EFFECTS: returns the current time in milliseconds since the epoch
+    public long now() {
+        return System.currentTimeMillis();
+    }
+
+    // EFFECTS: returns a new Calendar set to the current time
+    public Calendar nowCalendar() {
+        Calendar date = Calendar.getInstance(this.zone);
+        date.setTimeInMillis(now());
+        return date;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns the span from the first to the last millisecond of the current day
+    public TimeSpan today() {
+        long now = now();
+        TimeSpan cached = this.today;
+        if (cached == null || !cached.during(now)) {
+            cached = dayOf(now);
+            this.today = cached;
+        }
+        return cached;
+    }
+
+    // EFFECTS: returns the number of days between the epoch and the current day
+    public long todayEpochDay() {
+        return epochDay(today().getStart());
+    }
+
+    // EFFECTS: returns the number of days between the epoch and the day of the given time
+    public long epochDay(long millis) {
+        return Math.floorDiv(millis + this.zone.getOffset(millis), MILLIS_PER_DAY);
+    }
+
+    // EFFECTS: returns the span from the first to the last millisecond of the day of the given time
+    private TimeSpan dayOf(long millis) {
+        Calendar date = Calendar.getInstance(this.zone);
+        date.setTimeInMillis(millis);
+        date.set(Calendar.HOUR_OF_DAY, 0);
+        date.set(Calendar.MINUTE, 0);
+        date.set(Calendar.SECOND, 0);
+        date.set(Calendar.MILLISECOND, 0);
+        long start = date.getTimeInMillis();
+        date.add(Calendar.DAY_OF_MONTH, 1);
+        return new TimeSpan(start, date.getTimeInMillis() - 1);
+    }
+}
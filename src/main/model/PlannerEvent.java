@@ -0,0 +1,60 @@
+package model;
+
+import persistence.Saveable;
+
+// represents a single change to the planner: an item added to or removed from a section,
+// a task toggled, or a tracker marked or unmarked; section and index are only known once
+// the change has reached the list holding the item
+public class PlannerEvent {
+    // kinds of change that can be made to the planner
+    public enum Kind {
+        ADD, REMOVE, TOGGLE, MARK, UNMARK
+    }
+
+    private final Kind kind;
+    private final String section;
+    private final int index;
+    private final Saveable item;
+    private final long time;
+
+    // EFFECTS: constructs a change of given kind to the item at given index of the named
+    //          section, with the time marked for MARK changes
+    public PlannerEvent(Kind kind, String section, int index, Saveable item, long time) {
+        this.kind = kind;
+        this.section = section;
+        this.index = index;
+        this.item = item;
+        this.time = time;
+    }
+
+    // EFFECTS: constructs a change of given kind made to item itself, before it is known
+    //          where the item is held
+    public PlannerEvent(Kind kind, Saveable item, long time) {
+        this(kind, null, -1, item, time);
+    }
+
+    public Kind getKind() {
+        return this.kind;
+    }
+
+    public String getSection() {
+        return this.section;
+    }
+
+    public int getIndex() {
+        return this.index;
+    }
+
+    public Saveable getItem() {
+        return this.item;
+    }
+
+    public long getTime() {
+        return this.time;
+    }
+
+    // EFFECTS: returns this change as made to the item at given index of the named section
+    public PlannerEvent inSection(String section, int index) {
+        return new PlannerEvent(this.kind, section, index, this.item, this.time);
+    }
+}
@@ -0,0 +1,7 @@
+package model;
+
+// represents something that is told about every change made to the planner
+public interface PlannerObserver {
+    // EFFECTS: reacts to the given change
+    void update(PlannerEvent event);
+}
@@ -4,4 +4,10 @@ package model;
 public interface Schedulable {
     // EFFECTS: returns true if item is dated today
     boolean isToday();
+
+    // EFFECTS: returns the time the item starts, in milliseconds since the epoch
+    long getStartMillis();
+
+    // EFFECTS: returns the time the item ends, in milliseconds since the epoch
+    long getEndMillis();
 }
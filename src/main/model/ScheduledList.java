@@ -2,44 +2,134 @@ package model;
 
 import org.json.JSONArray;
 import org.json.JSONObject;
+import persistence.JsonStreamWriter;
 import persistence.Saveable;
 
+import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.Calendar;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.TimeZone;
 
-// represents a list of one type of schedulable items (Appointments or Tasks)
-public class ScheduledList<T extends Comparable<T> & Schedulable & Saveable> implements Saveable {
+// represents a list of one type of schedulable items (Appointments or Tasks), telling its
+// observers about items added and removed and about changes made to the items themselves;
+// the list is kept in order and indexed by time and by day, so an item must not have its
+// time changed while it is in the list; a task without a due date is on no day
+public class ScheduledList<T extends Comparable<T> & Schedulable & Saveable> extends Subject
+        implements Saveable, PlannerObserver {
     private ArrayList<T> internalArray;
+    private IntervalTree<T> timeIndex;
+    private HashMap<Long, ArrayList<T>> dayIndex;
+    private TimeZone dayIndexZone;
     private final String type;
+    private final boolean observesItems;
+    private boolean dirty;
 
     // EFFECTS: initializes new list of schedulable items
     public ScheduledList(String type) {
+        this(type, true);
+    }
+
+    // EFFECTS: initializes new list of schedulable items; a list that does not observe its
+    //          items is a view over items held by another list
+    private ScheduledList(String type, boolean observesItems) {
         this.type = type;
         this.internalArray = new ArrayList<>();
+        this.timeIndex = new IntervalTree<>();
+        this.dayIndex = new HashMap<>();
+        this.dayIndexZone = PlannerClock.getCurrent().getZone();
+        this.observesItems = observesItems;
+        this.dirty = false;
     }
 
     public String getType() {
         return this.type;
     }
 
+    // EFFECTS: returns true if the list or any of its items has changed since it was last
+    //          marked clean
+    public boolean isDirty() {
+        return this.dirty;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: marks the list as matching what was last saved
+    public void markClean() {
+        this.dirty = false;
+    }
+
     // REQUIRES: valid index
     // EFFECTS: returns the item at the given index
     public T getItem(int index) {
         return this.internalArray.get(index);
     }
 
+    // REQUIRES: the time of newItem is not changed while it is in the list
     // MODIFIES: this
-    // EFFECTS: adds given item to list & sorts by chronological order
+    // EFFECTS: adds given item to list in chronological order, after any items
+    //          scheduled at the same time
     public void addItem(T newItem) {
-        this.internalArray.add(newItem);
-        sort();
+        checkDayIndexZone();
+        int index = insertionIndex(this.internalArray, newItem);
+        this.internalArray.add(index, newItem);
+        this.timeIndex.insert(newItem);
+        if (isOnADay(newItem)) {
+            ArrayList<T> day = this.dayIndex.computeIfAbsent(epochDay(newItem.getStartMillis()),
+                    k -> new ArrayList<>());
+            day.add(insertionIndex(day, newItem), newItem);
+        }
+        observe(newItem);
+        this.dirty = true;
+        if (hasObservers()) {
+            notifyObservers(new PlannerEvent(PlannerEvent.Kind.ADD, this.type, index, newItem, 0));
+        }
+    }
+
+    // REQUIRES: the times of newItems are not changed while they are in the list
+    // MODIFIES: this
+    // EFFECTS: adds all given items to list in chronological order by sorting the
+    //          batch once and merging it with the items already in the list
+    public void addAll(Collection<T> newItems) {
+        ArrayList<T> batch = new ArrayList<>(newItems);
+        batch.sort(null);
+        this.internalArray = merge(this.internalArray, batch);
+        this.timeIndex.rebuild(this.internalArray);
+        rebuildDayIndex();
+        this.dirty |= !batch.isEmpty();
+        for (T item : batch) {
+            observe(item);
+            if (hasObservers()) {
+                notifyObservers(new PlannerEvent(PlannerEvent.Kind.ADD, this.type, indexOf(item), item, 0));
+            }
+        }
     }
 
     // REQUIRES: item already in list
     // MODIFIES: this
     // EFFECTS: removes given item from list
     public void removeItem(T item) {
-        this.internalArray.remove(item);
+        int index = indexOf(item);
+        if (index >= 0) {
+            this.internalArray.remove(index);
+            this.timeIndex.remove(item);
+            removeFromDayIndex(item);
+            if (this.observesItems && item instanceof Subject) {
+                ((Subject) item).removeObserver(this);
+            }
+            this.dirty = true;
+            notifyObservers(new PlannerEvent(PlannerEvent.Kind.REMOVE, this.type, index, item, 0));
+        }
+    }
+
+    // EFFECTS: passes on a change made to one of the items in this list, with its index
+    @Override
+    public void update(PlannerEvent event) {
+        int index = indexOf((Schedulable) event.getItem());
+        if (index >= 0) {
+            this.dirty = true;
+            notifyObservers(event.inSection(this.type, index));
+        }
     }
 
     // EFFECTS: returns number of items in the list
@@ -47,21 +137,155 @@ public class ScheduledList<T extends Comparable<T> & Schedulable & Saveable> imp
         return this.internalArray.size();
     }
 
+    // EFFECTS: returns a list of only items whose time overlaps the time from
+    //          (inclusive) to to (exclusive)
+    public ScheduledList<T> listOverlapping(Calendar from, Calendar to) {
+        ScheduledList<T> newList = new ScheduledList<>(this.type, false);
+        newList.addAll(this.timeIndex.overlapping(from.getTimeInMillis(), to.getTimeInMillis()));
+        return newList;
+    }
+
+    // EFFECTS: returns true if the time of given item overlaps any other item in the list
+    public boolean conflictsWith(T item) {
+        long start = item.getStartMillis();
+        long end = Math.max(item.getEndMillis(), start + 1);
+        return this.timeIndex.anyOverlapping(start, end, item);
+    }
+
     // EFFECTS: returns a list of only items that are scheduled for today
     public ScheduledList<T> listToday() {
-        ScheduledList<T> newList = new ScheduledList<>(this.type);
-        for (T item : this.internalArray) {
-            if (item.isToday()) {
-                newList.addItem(item);
-            }
+        return listOnDay(PlannerClock.getCurrent().todayEpochDay());
+    }
+
+    // EFFECTS: returns a list of only items that are scheduled on the given day
+    public ScheduledList<T> listOnDay(Calendar date) {
+        return listOnDay(epochDay(date.getTimeInMillis()));
+    }
+
+    // EFFECTS: returns a list of only items that are scheduled on the given
+    //          number of days since the epoch
+    private ScheduledList<T> listOnDay(long epochDay) {
+        checkDayIndexZone();
+        ScheduledList<T> newList = new ScheduledList<>(this.type, false);
+        ArrayList<T> day = this.dayIndex.get(epochDay);
+        if (day != null) {
+            newList.addAll(day);
         }
         return newList;
     }
 
     // MODIFIES: this
-    // EFFECTS: sorts list by chronological order
-    private void sort() {
-        Collections.sort(this.internalArray);
+    // EFFECTS: removes given item from the index of items by day
+    private void removeFromDayIndex(T item) {
+        checkDayIndexZone();
+        if (!isOnADay(item)) {
+            return;
+        }
+        long key = epochDay(item.getStartMillis());
+        ArrayList<T> day = this.dayIndex.get(key);
+        if (day != null && day.remove(item) && day.isEmpty()) {
+            this.dayIndex.remove(key);
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: rebuilds the index of items by day if the planner clock now counts days in a
+    //          different time zone from the one the index was built in
+    private void checkDayIndexZone() {
+        if (!PlannerClock.getCurrent().getZone().equals(this.dayIndexZone)) {
+            rebuildDayIndex();
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: rebuilds the index of items by day from the chronological list, counting days
+    //          in the time zone of the planner clock
+    private void rebuildDayIndex() {
+        this.dayIndex = new HashMap<>();
+        this.dayIndexZone = PlannerClock.getCurrent().getZone();
+        for (T item : this.internalArray) {
+            if (isOnADay(item)) {
+                this.dayIndex.computeIfAbsent(epochDay(item.getStartMillis()), k -> new ArrayList<>()).add(item);
+            }
+        }
+    }
+
+    // EFFECTS: returns true if given item is scheduled at a time and so belongs to a day,
+    //          false if it is a task without a due date
+    private static boolean isOnADay(Schedulable item) {
+        return item.getStartMillis() != Task.NO_DUE;
+    }
+
+    // EFFECTS: returns the number of days between the epoch and the day of the given time
+    private static long epochDay(long millis) {
+        return PlannerClock.getCurrent().epochDay(millis);
+    }
+
+    // MODIFIES: item
+    // EFFECTS: starts observing changes made to given item, unless this list is a view
+    private void observe(T item) {
+        if (this.observesItems && item instanceof Subject) {
+            ((Subject) item).addObserver(this);
+        }
+    }
+
+    // EFFECTS: returns the index of given item in the list, or -1 if it is not in the list,
+    //          found by binary search for the first item starting at the same time
+    private int indexOf(Schedulable item) {
+        long start = item.getStartMillis();
+        int low = 0;
+        int high = this.internalArray.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (this.internalArray.get(mid).getStartMillis() < start) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        for (int i = low; i < this.internalArray.size() && this.internalArray.get(i).getStartMillis() == start; i++) {
+            if (this.internalArray.get(i) == item) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    // REQUIRES: list is in chronological order
+    // EFFECTS: returns the index the given item should be inserted at to keep the
+    //          list chronological, found by binary search for the first item
+    //          scheduled strictly after the given item
+    private int insertionIndex(ArrayList<T> list, T item) {
+        int low = 0;
+        int high = list.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (list.get(mid).compareTo(item) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // REQUIRES: both lists are in chronological order
+    // EFFECTS: returns a new chronological list of the items in both lists, with
+    //          items from existing placed before items from batch at the same time
+    private ArrayList<T> merge(ArrayList<T> existing, ArrayList<T> batch) {
+        ArrayList<T> merged = new ArrayList<>(existing.size() + batch.size());
+        int i = 0;
+        int j = 0;
+        while (i < existing.size() && j < batch.size()) {
+            if (batch.get(j).compareTo(existing.get(i)) < 0) {
+                merged.add(batch.get(j++));
+            } else {
+                merged.add(existing.get(i++));
+            }
+        }
+        merged.addAll(existing.subList(i, existing.size()));
+        merged.addAll(batch.subList(j, batch.size()));
+        return merged;
     }
 
     // EFFECTS: returns this as a JSON object
@@ -76,4 +300,14 @@ public class ScheduledList<T extends Comparable<T> & Schedulable & Saveable> imp
         obj.put(this.type, arr);
         return obj;
     }
+
+    // EFFECTS: writes this list to the given JSON writer
+    @Override
+    public void write(JsonStreamWriter writer) throws IOException {
+        writer.beginObject().name(this.type).beginArray();
+        for (T t : this.internalArray) {
+            t.write(writer);
+        }
+        writer.endArray().endObject();
+    }
 }
@@ -0,0 +1,41 @@
+package model;
+
+import java.util.ArrayList;
+
+// represents a part of the planner that tells its observers about every change made to it
+public abstract class Subject {
+    private ArrayList<PlannerObserver> observers;
+
+    // MODIFIES: this
+    // EFFECTS: adds given observer, unless it is already observing
+    public void addObserver(PlannerObserver observer) {
+        if (this.observers == null) {
+            this.observers = new ArrayList<>(1);
+        }
+        if (!this.observers.contains(observer)) {
+            this.observers.add(observer);
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: removes given observer if it is observing
+    public void removeObserver(PlannerObserver observer) {
+        if (this.observers != null) {
+            this.observers.remove(observer);
+        }
+    }
+
+    // EFFECTS: returns true if anything is observing
+    protected boolean hasObservers() {
+        return this.observers != null && !this.observers.isEmpty();
+    }
+
+    // EFFECTS: tells every observer about the given change
+    protected void notifyObservers(PlannerEvent event) {
+        if (this.observers != null) {
+            for (PlannerObserver observer : new ArrayList<>(this.observers)) {
+                observer.update(event);
+            }
+        }
+    }
+}
@@ -1,22 +1,26 @@
 package model;
 
 import org.json.JSONObject;
+import persistence.JsonStreamWriter;
 import persistence.Saveable;
 
+import java.io.IOException;
 import java.util.Calendar;
 
 // represents a task with a name, description, due date, and completion
-public class Task implements Comparable<Task>, Schedulable, Saveable {
+public class Task extends Subject implements Comparable<Task>, Schedulable, Saveable {
+    static final long NO_DUE = Long.MIN_VALUE;
+
     private String name;
     private String description;
-    private Calendar due;
+    private long due;
     private boolean complete;
 
     // EFFECTS: initializes a blank incomplete task for use in UI
     public Task() {
         this.name = "";
         this.description = "";
-        this.due = null;
+        this.due = NO_DUE;
         this.complete = false;
     }
 
@@ -24,7 +28,7 @@ public class Task implements Comparable<Task>, Schedulable, Saveable {
     public Task(Task other) {
         this.name = other.getName();
         this.description = other.getDescription();
-        this.due = (Calendar) other.getDue().clone();
+        this.due = other.getStartMillis();
         this.complete = other.isComplete();
     }
 
@@ -32,7 +36,7 @@ public class Task implements Comparable<Task>, Schedulable, Saveable {
     public Task(String name, String desc, Calendar due) {
         this.name = name;
         this.description = desc;
-        this.due = (Calendar) due.clone();
+        this.due = due.getTimeInMillis();
         this.complete = false;
     }
 
@@ -52,17 +56,23 @@ public class Task implements Comparable<Task>, Schedulable, Saveable {
         return this.description;
     }
 
+    // EFFECTS: returns a new Calendar set to the due date, or null if not set;
+    //          changes to it must be given back through setDue
     public Calendar getDue() {
-        return this.due;
+        if (this.due != NO_DUE) {
+            return TimeSpan.toCalendar(this.due);
+        } else {
+            return null;
+        }
     }
 
     // MODIFIES: this
-    // EFFECTS: set due date to given due date, sets to null if given null
+    // EFFECTS: set due date to given due date, or to not set if given null
     public void setDue(Calendar due) {
         if (due != null) {
-            this.due = (Calendar) due.clone();
+            this.due = due.getTimeInMillis();
         } else {
-            this.due = null;
+            this.due = NO_DUE;
         }
     }
 
@@ -70,6 +80,7 @@ public class Task implements Comparable<Task>, Schedulable, Saveable {
     // EFFECTS: changes complete tasks to incomplete tasks and vice versa
     public void toggleCompletion() {
         this.complete = !this.complete;
+        notifyObservers(new PlannerEvent(PlannerEvent.Kind.TOGGLE, this, 0));
     }
 
     // EFFECTS: returns true if task is complete, otherwise returns false
@@ -82,20 +93,25 @@ public class Task implements Comparable<Task>, Schedulable, Saveable {
     //          task, otherwise returns 1 for this task being after
     @Override
     public int compareTo(Task other) {
-        if (this.due.equals(other.getDue())) {
-            return 0;
-        } else if (this.due.before(other.getDue())) {
-            return -1;
-        } else {
-            return 1;
-        }
+        return Long.compare(this.due, other.getStartMillis());
     }
 
     // EFFECTS: returns true if task is due today
     @Override
     public boolean isToday() {
-        CalendarInterval today = new CalendarInterval(Calendar.getInstance());
-        return today.during(this.due);
+        return PlannerClock.getCurrent().today().during(this.due);
+    }
+
+    // EFFECTS: returns due date of task in milliseconds, or Long.MIN_VALUE if not set
+    @Override
+    public long getStartMillis() {
+        return this.due;
+    }
+
+    // EFFECTS: returns due date of task in milliseconds, as a task has no length
+    @Override
+    public long getEndMillis() {
+        return this.due;
     }
 
     // EFFECTS: returns this task as a JSON object
@@ -104,8 +120,19 @@ public class Task implements Comparable<Task>, Schedulable, Saveable {
         JSONObject obj = new JSONObject();
         obj.put("name", this.name);
         obj.put("description", this.description);
-        obj.put("due", this.due.getTimeInMillis());
+        obj.put("due", this.due);
         obj.put("completion", this.complete);
         return obj;
     }
+
+    // EFFECTS: writes this task to the given JSON writer
+    @Override
+    public void write(JsonStreamWriter writer) throws IOException {
+        writer.beginObject()
+                .name("name").value(this.name)
+                .name("description").value(this.description)
+                .name("due").value(this.due)
+                .name("completion").value(this.complete)
+                .endObject();
+    }
 }
@@ -0,0 +1,113 @@
+package model;
+
+import java.util.Calendar;
+
+// represents an immutable span of time with a start and end in milliseconds since the epoch
+public final class TimeSpan {
+    static final long MILLIS_PER_MINUTE = 60000L;
+    static final long MILLIS_PER_HOUR = 3600000L;
+
+    private final long start;
+    private final long end;
+
+    // REQUIRES: start <= end
+    // EFFECTS: sets up a span from start to end
+    public TimeSpan(long start, long end) {
+        this.start = start;
+        this.end = end;
+    }
+
+    // EFFECTS: returns a span that starts at the given date, with seconds and milliseconds
+    //          dropped, and lasts given hours and minutes
+    public static TimeSpan of(Calendar date, int hours, int minutes) {
+        long start = toMinute(date);
+        return new TimeSpan(start, start + hours * MILLIS_PER_HOUR + minutes * MILLIS_PER_MINUTE);
+    }
+
+    // EFFECTS: returns a span that starts at midnight of the given day and lasts 23 hours
+    //          and 59 minutes
+    public static TimeSpan wholeDay(Calendar date) {
+        Calendar midnight = (Calendar) date.clone();
+        midnight.set(Calendar.HOUR_OF_DAY, 0);
+        midnight.set(Calendar.MINUTE, 0);
+        return of(midnight, 23, 59);
+    }
+
+    // EFFECTS: returns the given date in milliseconds with seconds and milliseconds dropped
+    public static long toMinute(Calendar date) {
+        long millis = date.getTimeInMillis();
+        return millis - Math.floorMod(millis + date.getTimeZone().getOffset(millis), MILLIS_PER_MINUTE);
+    }
+
+    // EFFECTS: returns a new Calendar set to the given milliseconds since the epoch
+    public static Calendar toCalendar(long millis) {
+        Calendar date = Calendar.getInstance();
+        date.setTimeInMillis(millis);
+        return date;
+    }
+
+    public long getStart() {
+        return this.start;
+    }
+
+    public long getEnd() {
+        return this.end;
+    }
+
+    // EFFECTS: returns the whole hours in the length of this span
+    public int getHours() {
+        return (int) ((this.end - this.start) / MILLIS_PER_HOUR);
+    }
+
+    // EFFECTS: returns the minutes in the length of this span left over after whole hours
+    public int getMinutes() {
+        return (int) ((this.end - this.start) % MILLIS_PER_HOUR / MILLIS_PER_MINUTE);
+    }
+
+    // EFFECTS: returns a span with the given start that keeps this span's length
+    public TimeSpan withStart(long newStart) {
+        return new TimeSpan(newStart, newStart + (this.end - this.start));
+    }
+
+    // EFFECTS: returns a span with this span's start that lasts given hours and minutes
+    public TimeSpan withLength(int hours, int minutes) {
+        return new TimeSpan(this.start, this.start + hours * MILLIS_PER_HOUR + minutes * MILLIS_PER_MINUTE);
+    }
+
+    // EFFECTS: returns true if this span ends before or exactly at the given time
+    public boolean before(long time) {
+        return this.end <= time;
+    }
+
+    // EFFECTS: returns true if the given time is within this span, including both ends
+    public boolean during(long time) {
+        return this.start <= time && time <= this.end;
+    }
+
+    // EFFECTS: returns true if this span starts after or exactly at the given time
+    public boolean after(long time) {
+        return this.start >= time;
+    }
+
+    // EFFECTS: returns true if this span overlaps the time from (inclusive) to to (exclusive)
+    public boolean overlaps(long from, long to) {
+        return IntervalTree.overlaps(this.start, this.end, from, to);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        TimeSpan other = (TimeSpan) o;
+        return this.start == other.start && this.end == other.end;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * Long.hashCode(this.start) + Long.hashCode(this.end);
+    }
+}
@@ -2,85 +2,269 @@ package model;
 
 import org.json.JSONArray;
 import org.json.JSONObject;
+import persistence.JsonStreamWriter;
 import persistence.Saveable;
 
+import java.io.IOException;
+import java.util.Arrays;
 import java.util.Calendar;
-import java.util.ArrayList;
+import java.util.TimeZone;
+import java.util.function.Supplier;
 
-// represents a habit tracker with a name and list of dates completed
-public class Tracker implements Saveable {
-    private ArrayList<Calendar> internalArray;
+// represents a habit tracker with a name and list of dates completed, stored as a
+// chronological array of milliseconds since the epoch; a tracker can be loaded knowing only
+// how many dates there are and the latest one, fetching the rest the first time it is needed
+public class Tracker extends Subject implements Saveable {
+    private static final int INITIAL_CAPACITY = 4;
+
+    private long[] internalArray;
+    private int size;
     private final String name;
+    private TrackerStatistics statistics;
+    private DayBitmap dayBitmap;
+    private TimeZone dayZone;
+    private Supplier<long[]> pendingHistory;
+    private long pendingLastTime;
 
     // EFFECTS: name is set to trackerName & empty list is initialized
     public Tracker(String trackerName) {
-        this.internalArray = new ArrayList<>();
+        this.internalArray = new long[INITIAL_CAPACITY];
+        this.size = 0;
         this.name = trackerName;
+        this.statistics = new TrackerStatistics();
+        this.dayBitmap = new DayBitmap();
+        this.dayZone = PlannerClock.getCurrent().getZone();
+    }
+
+    // REQUIRES: history supplies count dates in milliseconds, the latest being lastTime
+    // EFFECTS: name is set to trackerName, with its dates fetched from history only once
+    //          something needs more than their number or the latest date
+    public Tracker(String trackerName, int count, long lastTime, Supplier<long[]> history) {
+        this(trackerName);
+        this.size = count;
+        this.pendingLastTime = lastTime;
+        this.pendingHistory = history;
+    }
+
+    // EFFECTS: constructs a copy of other with the same name and dates, sharing its dates if
+    //          they have not been fetched yet; the copy fetches them the first time it needs
+    //          more than their number or the latest date, as other would
+    public Tracker(Tracker other) {
+        this(other.name);
+        this.size = other.size;
+        if (other.pendingHistory != null) {
+            this.pendingHistory = other.pendingHistory;
+            this.pendingLastTime = other.pendingLastTime;
+        } else if (other.size > 0) {
+            long[] times = Arrays.copyOf(other.internalArray, other.size);
+            this.pendingHistory = () -> times;
+            this.pendingLastTime = times[times.length - 1];
+        }
     }
 
     public String getName() {
         return this.name;
     }
 
+    public TrackerStatistics getStatistics() {
+        checkDayZone();
+        return this.statistics;
+    }
+
+    public DayBitmap getDayBitmap() {
+        checkDayZone();
+        return this.dayBitmap;
+    }
+
+    // EFFECTS: returns true if every date has been loaded, false if they are still to be
+    //          fetched when first needed
+    public boolean isHistoryLoaded() {
+        return this.pendingHistory == null;
+    }
+
     // EFFECTS: returns number of dates on tracker list
     public int length() {
-        return this.internalArray.size();
+        return this.size;
+    }
+
+    // REQUIRES: 0 <= index < length()
+    // EFFECTS: returns the date at given index in chronological order, in milliseconds
+    public long getTime(int index) {
+        loadPendingHistory();
+        return this.internalArray[index];
     }
 
     // EFFECTS: returns true if tracker contains given exact date & time,
     //          otherwise false
     public boolean contains(Calendar date) {
-        return this.internalArray.contains(date);
+        loadPendingHistory();
+        return Arrays.binarySearch(this.internalArray, 0, this.size, date.getTimeInMillis()) >= 0;
     }
 
     // MODIFIES: this
     // EFFECTS: adds date/Calendar object to tracker
     public void addToTracker(Calendar dateTime) {
-        this.internalArray.add(dateTime);
+        addToTracker(dateTime.getTimeInMillis());
+    }
+
+    // MODIFIES: this
+    // EFFECTS: adds date in milliseconds to tracker, after any equal dates
+    public void addToTracker(long time) {
+        checkDayZone();
+        int index = insertionIndex(time);
+        if (this.size == this.internalArray.length) {
+            this.internalArray = Arrays.copyOf(this.internalArray, this.size * 2);
+        }
+        System.arraycopy(this.internalArray, index, this.internalArray, index + 1, this.size - index);
+        this.internalArray[index] = time;
+        this.size++;
+
+        long day = epochDay(time);
+        if (!isOnDay(index - 1, day) && !isOnDay(index + 1, day)) {
+            this.statistics.addDay(day);
+            this.dayBitmap.set(day);
+        }
+        notifyObservers(new PlannerEvent(PlannerEvent.Kind.MARK, this, time));
+    }
+
+    // MODIFIES: this
+    // EFFECTS: replaces all dates on tracker with the given dates in milliseconds and
+    //          rebuilds the statistics from them; meant for loading, so observers are not told
+    public void loadHistory(long[] times) {
+        this.pendingHistory = null;
+        this.internalArray = Arrays.copyOf(times, Math.max(times.length, INITIAL_CAPACITY));
+        this.size = times.length;
+        Arrays.sort(this.internalArray, 0, this.size);
+        rebuildDays();
     }
 
     // MODIFIES: this
     // EFFECTS: add current time to habit tracker
     public void markDone() {
-        this.internalArray.add(Calendar.getInstance());
+        addToTracker(PlannerClock.getCurrent().now());
     }
 
     // MODIFIES: this
     // EFFECTS: removes most recent date from tracker, nothing if tracker is empty
     public void unmarkDone() {
-        if (this.internalArray.size() > 0) {
-            this.internalArray.remove(this.internalArray.size() - 1);
+        checkDayZone();
+        if (this.size > 0) {
+            this.size--;
+            long day = epochDay(this.internalArray[this.size]);
+            if (!isOnDay(this.size - 1, day)) {
+                this.statistics.removeDay(day);
+                this.dayBitmap.clear(day);
+            }
+            notifyObservers(new PlannerEvent(PlannerEvent.Kind.UNMARK, this, 0));
         }
     }
 
     // EFFECTS: returns true if habit has been completed today, otherwise returns false
     public boolean isDoneToday() {
-        int lastElement = this.internalArray.size() - 1;
-        if (lastElement < 0) {
+        if (this.size == 0) {
             return false;
         } else {
-            CalendarInterval today = new CalendarInterval(Calendar.getInstance());
-            return today.during(this.internalArray.get(lastElement));
+            TimeSpan today = PlannerClock.getCurrent().today();
+            return today.during(lastTime());
         }
     }
 
+    // EFFECTS: returns true if habit was completed at any time on the given day
+    public boolean isDoneOn(Calendar date) {
+        checkDayZone();
+        return this.dayBitmap.get(epochDay(date.getTimeInMillis()));
+    }
+
+    // EFFECTS: returns the number of days the habit was completed in the month of the given date
+    public long daysDoneInMonth(Calendar date) {
+        checkDayZone();
+        Calendar month = (Calendar) date.clone();
+        month.set(Calendar.DAY_OF_MONTH, 1);
+        long firstDay = epochDay(month.getTimeInMillis());
+        month.add(Calendar.MONTH, 1);
+        return this.dayBitmap.count(firstDay, epochDay(month.getTimeInMillis()));
+    }
+
     // REQUIRES: habit has been completed at least once (internalArray has a size > 0)
     // EFFECTS: returns the most recent date of completion of this habit
     public Calendar getLastElement() {
-        if (this.internalArray.size() > 0) {
-            int lastElement = this.internalArray.size() - 1;
-            return this.internalArray.get(lastElement);
+        if (this.size > 0) {
+            return TimeSpan.toCalendar(lastTime());
         } else {
             return null;
         }
     }
 
+    // REQUIRES: length() > 0
+    // EFFECTS: returns the latest date, without fetching the dates if they are not loaded
+    private long lastTime() {
+        return this.pendingHistory != null ? this.pendingLastTime : this.internalArray[this.size - 1];
+    }
+
+    // MODIFIES: this
+    // EFFECTS: fetches and loads the dates if they have not been loaded yet
+    private void loadPendingHistory() {
+        if (this.pendingHistory != null) {
+            loadHistory(this.pendingHistory.get());
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: fetches the dates if they have not been loaded yet, and rebuilds the statistics
+    //          and days completed if the planner clock now counts days in a different time zone from
+    //          the one they were built in
+    private void checkDayZone() {
+        loadPendingHistory();
+        if (!PlannerClock.getCurrent().getZone().equals(this.dayZone)) {
+            rebuildDays();
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: rebuilds the statistics and days completed from the dates, counting days in
+    //          the time zone of the planner clock
+    private void rebuildDays() {
+        this.dayZone = PlannerClock.getCurrent().getZone();
+        this.statistics.rebuild(this.internalArray, this.size);
+        this.dayBitmap.clearAll();
+        for (int i = 0; i < this.size; i++) {
+            this.dayBitmap.set(epochDay(this.internalArray[i]));
+        }
+    }
+
+    // EFFECTS: returns true if there is a date at given index and it falls on the given day
+    private boolean isOnDay(int index, long day) {
+        return index >= 0 && index < this.size && epochDay(this.internalArray[index]) == day;
+    }
+
+    // EFFECTS: returns the number of days between the epoch and the day of the given time
+    private static long epochDay(long time) {
+        return PlannerClock.getCurrent().epochDay(time);
+    }
+
+    // EFFECTS: returns the index the given time should be inserted at to keep the
+    //          dates chronological, after any equal dates
+    private int insertionIndex(long time) {
+        int low = 0;
+        int high = this.size;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (this.internalArray[mid] <= time) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
     // EFFECTS: returns this tracker as a JSON object
     @Override
     public JSONObject toJson() {
+        loadPendingHistory();
         JSONArray arr = new JSONArray();
-        for (Calendar c : this.internalArray) {
-            arr.put(new JSONObject().put("time", c.getTimeInMillis()));
+        for (int i = 0; i < this.size; i++) {
+            arr.put(new JSONObject().put("time", this.internalArray[i]));
         }
 
         JSONObject obj = new JSONObject();
@@ -88,4 +272,16 @@ public class Tracker implements Saveable {
         obj.put("times complete", arr);
         return obj;
     }
+
+    // EFFECTS: writes this tracker to the given JSON writer, fetching its dates for the write
+    //          without loading them into the tracker if they have not been fetched yet
+    @Override
+    public void write(JsonStreamWriter writer) throws IOException {
+        long[] times = this.pendingHistory != null ? this.pendingHistory.get() : this.internalArray;
+        writer.beginObject().name("name").value(this.name).name("times complete").beginArray();
+        for (int i = 0; i < this.size; i++) {
+            writer.beginObject().name("time").value(times[i]).endObject();
+        }
+        writer.endArray().endObject();
+    }
 }
@@ -0,0 +1,159 @@
+package model;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+// represents the streaks and completion rate of a habit tracker, kept up to date one
+// day at a time as completions are added and removed so that reads never rescan history
+public class TrackerStatistics {
+    private TreeMap<Long, Long> runs;
+    private TreeMap<Long, Integer> runLengths;
+    private long completedDays;
+    private long longestStreak;
+    private long firstDay;
+    private long lastRunStart;
+    private long lastRunEnd;
+
+    // EFFECTS: initializes statistics for a tracker with no completions
+    public TrackerStatistics() {
+        clear();
+    }
+
+    // EFFECTS: returns number of distinct days with at least one completion
+    public long getCompletedDays() {
+        return this.completedDays;
+    }
+
+    // EFFECTS: returns the most consecutive days ever completed
+    public long getLongestStreak() {
+        return this.longestStreak;
+    }
+
+    // EFFECTS: returns the consecutive days completed up to today, or up to yesterday
+    //          if not yet completed today; 0 if the streak has been broken
+    public long getCurrentStreak() {
+        if (this.completedDays > 0 && this.lastRunEnd >= PlannerClock.getCurrent().todayEpochDay() - 1) {
+            return this.lastRunEnd - this.lastRunStart + 1;
+        }
+        return 0;
+    }
+
+    // EFFECTS: returns the fraction of days from the first completion to today that were
+    //          completed, 0 if never completed
+    public double getCompletionRate() {
+        if (this.completedDays == 0) {
+            return 0;
+        }
+        long days = Math.max(PlannerClock.getCurrent().todayEpochDay(), this.lastRunEnd) - this.firstDay + 1;
+        return (double) this.completedDays / days;
+    }
+
+    // REQUIRES: times are in chronological order
+    // MODIFIES: this
+    // EFFECTS: recalculates all statistics from the first size given completion times
+    public void rebuild(long[] times, int size) {
+        clear();
+        PlannerClock clock = PlannerClock.getCurrent();
+        long start = 0;
+        long end = 0;
+        for (int i = 0; i < size; i++) {
+            long day = clock.epochDay(times[i]);
+            if (i == 0) {
+                start = day;
+                end = day;
+            } else if (day > end + 1) {
+                putRun(start, end);
+                start = day;
+                end = day;
+            } else {
+                end = day;
+            }
+        }
+        if (size > 0) {
+            putRun(start, end);
+        }
+        refresh();
+    }
+
+    // REQUIRES: day has no completions yet
+    // MODIFIES: this
+    // EFFECTS: records a first completion on the given day, joining any neighbouring streaks
+    void addDay(long day) {
+        long start = day;
+        long end = day;
+        Map.Entry<Long, Long> before = this.runs.floorEntry(day);
+        if (before != null && before.getValue() == day - 1) {
+            start = before.getKey();
+            removeRun(start, before.getValue());
+        }
+        Long after = this.runs.get(day + 1);
+        if (after != null) {
+            end = after;
+            removeRun(day + 1, after);
+        }
+        putRun(start, end);
+        refresh();
+    }
+
+    // REQUIRES: day has been completed
+    // MODIFIES: this
+    // EFFECTS: records that the given day no longer has any completions, splitting its streak
+    void removeDay(long day) {
+        Map.Entry<Long, Long> run = this.runs.floorEntry(day);
+        long start = run.getKey();
+        long end = run.getValue();
+        removeRun(start, end);
+        if (start < day) {
+            putRun(start, day - 1);
+        }
+        if (day < end) {
+            putRun(day + 1, end);
+        }
+        refresh();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: resets to having no completions
+    private void clear() {
+        this.runs = new TreeMap<>();
+        this.runLengths = new TreeMap<>();
+        this.completedDays = 0;
+        refresh();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: adds a streak from start to end inclusive
+    private void putRun(long start, long end) {
+        this.runs.put(start, end);
+        this.runLengths.merge(end - start + 1, 1, Integer::sum);
+        this.completedDays += end - start + 1;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: removes the streak from start to end inclusive
+    private void removeRun(long start, long end) {
+        this.runs.remove(start);
+        long length = end - start + 1;
+        if (this.runLengths.merge(length, -1, Integer::sum) == 0) {
+            this.runLengths.remove(length);
+        }
+        this.completedDays -= length;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: updates the cached first day, longest streak, and latest streak
+    private void refresh() {
+        if (this.runs.isEmpty()) {
+            this.firstDay = 0;
+            this.longestStreak = 0;
+            this.lastRunStart = Long.MIN_VALUE;
+            this.lastRunEnd = Long.MIN_VALUE;
+        } else {
+            this.firstDay = this.runs.firstKey();
+            this.longestStreak = this.runLengths.lastKey();
+            Map.Entry<Long, Long> last = this.runs.lastEntry();
+            this.lastRunStart = last.getKey();
+            this.lastRunEnd = last.getValue();
+        }
+    }
+}
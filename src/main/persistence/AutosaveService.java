@@ -0,0 +1,169 @@
+package persistence;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+// Represents a service that saves a journaled planner on its own background thread, waiting
+// for a burst of changes to settle and then writing the whole burst at once, so that the
+// thread changing the planner never waits on the disk
+public class AutosaveService {
+    // represents a listener told how each save went, on the background thread
+    public interface Listener {
+        // EFFECTS: handles a save that made the given number of changes durable in the given time
+        void saved(long latencyMillis, int records, boolean snapshot);
+
+        // EFFECTS: handles a save that failed with the given exception
+        void failed(IOException e);
+    }
+
+    private final Journal journal;
+    private final Executor modelThread;
+    private final long delayMillis;
+    private final long maxDelayMillis;
+    private final Listener listener;
+    private final ScheduledExecutorService saver;
+    private ScheduledFuture<?> scheduled;
+    private long firstChange;
+    private boolean enabled;
+
+    // EFFECTS: constructs a service saving journal, reading the planner on modelThread, the
+    //          thread that changes it; a save starts once no change has been made for
+    //          delayMillis, or maxDelayMillis after the first unsaved change if changes keep
+    //          coming; saves wait until the service is enabled
+    public AutosaveService(Journal journal, Executor modelThread, long delayMillis, long maxDelayMillis,
+                           Listener listener) {
+        this.journal = journal;
+        this.modelThread = modelThread;
+        this.delayMillis = delayMillis;
+        this.maxDelayMillis = maxDelayMillis;
+        this.listener = listener;
+        ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, task -> {
+            Thread thread = new Thread(task, "autosave");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+        this.saver = executor;
+        journal.setChangeListener(this::changed);
+    }
+
+    // EFFECTS: returns true if changes are being saved automatically
+    public synchronized boolean isEnabled() {
+        return this.enabled;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: starts or stops saving changes automatically; while stopped, no save is started
+    //          and changes are kept until the next save
+    public synchronized void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        if (!enabled) {
+            cancelScheduled();
+        } else if (this.journal.hasPendingChanges()) {
+            changed();
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: schedules a save after the latest change, no later than the longest delay
+    //          after the first unsaved change
+    public synchronized void changed() {
+        if (!this.enabled || this.saver.isShutdown()) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        if (this.scheduled == null) {
+            this.firstChange = now;
+        } else {
+            this.scheduled.cancel(false);
+        }
+        long due = Math.min(now + this.delayMillis, this.firstChange + this.maxDelayMillis);
+        this.scheduled = this.saver.schedule(this::saveScheduled, Math.max(0, due - now), TimeUnit.MILLISECONDS);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: saves every change made so far without waiting for the delay; returns a future
+    //          completed once they are on disk, or completed exceptionally if the save failed
+    public CompletableFuture<Void> saveNow() {
+        synchronized (this) {
+            cancelScheduled();
+        }
+        return save(this.modelThread);
+    }
+
+    // REQUIRES: called on the model thread
+    // MODIFIES: this
+    // EFFECTS: if enabled, saves any changes still waiting; then stops the background thread,
+    //          waiting at most timeoutMillis for the save to finish
+    public void close(long timeoutMillis) {
+        CompletableFuture<Void> last = null;
+        synchronized (this) {
+            cancelScheduled();
+            if (this.enabled) {
+                last = save(Runnable::run);
+            }
+            this.enabled = false;
+        }
+        this.saver.shutdown();
+        try {
+            if (last != null) {
+                last.get(timeoutMillis, TimeUnit.MILLISECONDS);
+            }
+            this.saver.awaitTermination(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (Exception e) {
+            // the listener has already been told if the save failed; nothing more can be done
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: runs a scheduled save, unless it has been replaced by a later one
+    private void saveScheduled() {
+        synchronized (this) {
+            if (this.scheduled == null || this.scheduled.isCancelled()) {
+                return;
+            }
+            this.scheduled = null;
+        }
+        save(this.modelThread);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: forgets the scheduled save, if any
+    private void cancelScheduled() {
+        if (this.scheduled != null) {
+            this.scheduled.cancel(false);
+            this.scheduled = null;
+        }
+    }
+
+    // EFFECTS: takes the changes on the model thread, given by takeOn, where the planner is
+    //          consistent, then writes them on the background thread and tells the listener
+    //          how it went
+    private CompletableFuture<Void> save(Executor takeOn) {
+        long start = System.nanoTime();
+        return CompletableFuture.supplyAsync(this.journal::takeCommit, takeOn)
+                .thenAcceptAsync(write -> {
+                    if (write != null) {
+                        write(write, start);
+                    }
+                }, this.saver);
+    }
+
+    // EFFECTS: writes the changes taken from the journal and tells the listener how it went
+    private void write(Journal.PendingWrite write, long start) {
+        try {
+            write.write();
+            long latency = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            this.listener.saved(latency, write.getRecords(), write.isSnapshot());
+        } catch (IOException e) {
+            this.listener.failed(e);
+            throw new CompletionException(e);
+        }
+    }
+}
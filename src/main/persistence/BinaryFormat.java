@@ -0,0 +1,159 @@
+package persistence;
+
+import model.*;
+
+import java.io.IOException;
+import java.util.Calendar;
+import java.util.function.IntToLongFunction;
+
+// Represents the layout of a binary planner file:
+//
+//     magic "LPLN", version, then the appointments, tasks, and habit trackers sections
+//
+// Each section is its number of records followed by the records, and each record is its
+// length in bytes followed by its fields, so a reader can skip over records without decoding
+// them. Numbers are variable length integers, strings are length prefixed UTF-8, and the
+// completion times of a tracker are stored as the first time followed by the differences
+// between consecutive times, which are small because the times are in order.
+final class BinaryFormat {
+    static final byte[] MAGIC = {'L', 'P', 'L', 'N'};
+    static final int VERSION = 1;
+
+    // EFFECTS: not meant to be constructed
+    private BinaryFormat() {
+    }
+
+    // MODIFIES: out
+    // EFFECTS: writes the magic and version that start a planner file
+    static void writeHeader(BinaryWriter out) {
+        out.writeBytes(MAGIC);
+        out.writeVarLong(VERSION);
+    }
+
+    // MODIFIES: in
+    // EFFECTS: reads the magic and version that start a planner file;
+    //          throws IOException if it is not a planner file or is a newer version
+    static void readHeader(BinaryReader in) throws IOException {
+        byte[] magic = in.readBytes(MAGIC.length);
+        for (int i = 0; i < MAGIC.length; i++) {
+            if (magic[i] != MAGIC[i]) {
+                throw new IOException("Not a binary planner file");
+            }
+        }
+        long version = in.readVarLong();
+        if (version < 1 || version > VERSION) {
+            throw new IOException("Unsupported planner file version " + version);
+        }
+    }
+
+    // MODIFIES: out
+    // EFFECTS: writes the fields of an appointment
+    static void writeAppointment(BinaryWriter out, Appointment appointment) {
+        TimeSpan span = appointment.getSpan();
+        out.writeString(appointment.getName());
+        out.writeString(appointment.getDescription());
+        out.writeSignedVarLong(span.getStart());
+        out.writeVarLong(span.getEnd() - span.getStart());
+    }
+
+    // MODIFIES: in
+    // EFFECTS: reads the fields of an appointment
+    static Appointment readAppointment(BinaryReader in) throws IOException {
+        Appointment appointment = new Appointment();
+        appointment.setName(in.readString());
+        appointment.setDescription(in.readString());
+        long start = in.readSignedVarLong();
+        appointment.setTimePeriod(new CalendarInterval(new TimeSpan(start, start + in.readVarLong())));
+        return appointment;
+    }
+
+    // MODIFIES: out
+    // EFFECTS: writes the fields of a task
+    static void writeTask(BinaryWriter out, Task task) {
+        out.writeString(task.getName());
+        out.writeString(task.getDescription());
+        out.writeSignedVarLong(task.getStartMillis());
+        out.writeByte(task.isComplete() ? 1 : 0);
+    }
+
+    // MODIFIES: in, scratch
+    // EFFECTS: reads the fields of a task, using scratch to set its due date
+    static Task readTask(BinaryReader in, Calendar scratch) throws IOException {
+        Task task = new Task();
+        task.setName(in.readString());
+        task.setDescription(in.readString());
+        scratch.setTimeInMillis(in.readSignedVarLong());
+        task.setDue(scratch);
+        if (in.readByte() != 0) {
+            task.toggleCompletion();
+        }
+        return task;
+    }
+
+    // MODIFIES: out
+    // EFFECTS: writes the name of a tracker and its completion times as differences
+    static void writeTracker(BinaryWriter out, Tracker tracker) {
+        out.writeString(tracker.getName());
+        out.writeVarLong(tracker.length());
+        writeTimes(out, tracker.length(), tracker::getTime);
+    }
+
+    // REQUIRES: times are in chronological order
+    // MODIFIES: out
+    // EFFECTS: writes the given number of completion times as the first time followed by
+    //          the differences between consecutive times
+    static void writeTimes(BinaryWriter out, int count, IntToLongFunction times) {
+        long previous = 0;
+        for (int i = 0; i < count; i++) {
+            long time = times.applyAsLong(i);
+            if (i == 0) {
+                out.writeSignedVarLong(time);
+            } else {
+                out.writeVarLong(time - previous);
+            }
+            previous = time;
+        }
+    }
+
+    // MODIFIES: in
+    // EFFECTS: reads a tracker with all of its completion times
+    static Tracker readTracker(BinaryReader in) throws IOException {
+        Tracker tracker = new Tracker(in.readString());
+        tracker.loadHistory(readTimes(in, in.readLength()));
+        return tracker;
+    }
+
+    // MODIFIES: in
+    // EFFECTS: reads a tracker with only the number of completion times and the latest one
+    //          decoded, keeping the rest encoded until the tracker needs them
+    static Tracker readLazyTracker(BinaryReader in) throws IOException {
+        String name = in.readString();
+        int count = in.readLength();
+        if (count == 0) {
+            return new Tracker(name);
+        } else if (count > in.remaining()) {
+            throw new IOException("Malformed planner file: too many completion times");
+        }
+        int start = in.position();
+        long last = in.readSignedVarLong();
+        for (int i = 1; i < count; i++) {
+            last += in.readVarLong();
+        }
+        int end = in.position();
+        in.seek(start);
+        return new Tracker(name, count, last, new EncodedHistory(in.readBytes(end - start), count));
+    }
+
+    // MODIFIES: in
+    // EFFECTS: reads the given number of completion times written by writeTracker
+    static long[] readTimes(BinaryReader in, int count) throws IOException {
+        if (count > in.remaining()) {
+            throw new IOException("Malformed planner file: too many completion times");
+        }
+        long[] times = new long[count];
+        for (int i = 0; i < count; i++) {
+            times[i] = i == 0 ? in.readSignedVarLong() : times[i - 1] + in.readVarLong();
+        }
+        return times;
+    }
+}
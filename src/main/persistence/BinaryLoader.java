@@ -0,0 +1,87 @@
+package persistence;
+
+import model.*;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Calendar;
+
+// Represents a loader that reads a schedule saved by BinarySaver
+public class BinaryLoader {
+    private String fileName;
+    private boolean lazyHistories;
+
+    // EFFECTS: constructs loader in reference to given filename
+    public BinaryLoader(String fileName) {
+        this(fileName, false);
+    }
+
+    // EFFECTS: constructs loader in reference to given filename; if lazyHistories, trackers
+    //          are loaded with only their number of completions and latest completion, and
+    //          the rest of their history is decoded the first time it is needed
+    public BinaryLoader(String fileName, boolean lazyHistories) {
+        this.fileName = fileName;
+        this.lazyHistories = lazyHistories;
+    }
+
+    // EFFECTS: loads the whole saved planner from this file;
+    //          throws IOException if an error occurs loading or the file is malformed
+    public Planner loadAll() throws IOException {
+        BinaryReader in = new BinaryReader(ByteBuffer.wrap(Files.readAllBytes(Paths.get(fileName))));
+        BinaryFormat.readHeader(in);
+        Planner planner = new Planner();
+        planner.getAppointments().addAll(readAppointments(in));
+        planner.getTasks().addAll(readTasks(in));
+        readTrackers(in, planner.getHabits());
+        return planner;
+    }
+
+    // MODIFIES: in
+    // EFFECTS: reads the appointments section
+    private ArrayList<Appointment> readAppointments(BinaryReader in) throws IOException {
+        ArrayList<Appointment> appointments = new ArrayList<>();
+        for (int i = in.readLength(); i > 0; i--) {
+            int end = recordEnd(in);
+            appointments.add(BinaryFormat.readAppointment(in));
+            in.seek(end);
+        }
+        return appointments;
+    }
+
+    // MODIFIES: in
+    // EFFECTS: reads the tasks section
+    private ArrayList<Task> readTasks(BinaryReader in) throws IOException {
+        Calendar scratch = Calendar.getInstance();
+        ArrayList<Task> tasks = new ArrayList<>();
+        for (int i = in.readLength(); i > 0; i--) {
+            int end = recordEnd(in);
+            tasks.add(BinaryFormat.readTask(in, scratch));
+            in.seek(end);
+        }
+        return tasks;
+    }
+
+    // MODIFIES: in, ht
+    // EFFECTS: reads the habit trackers section into ht
+    private void readTrackers(BinaryReader in, HabitTrackers ht) throws IOException {
+        for (int i = in.readLength(); i > 0; i--) {
+            int end = recordEnd(in);
+            ht.addTracker(lazyHistories ? BinaryFormat.readLazyTracker(in) : BinaryFormat.readTracker(in));
+            in.seek(end);
+        }
+    }
+
+    // MODIFIES: in
+    // EFFECTS: reads the length of the next record and returns where it ends, so fields
+    //          added by later versions can be skipped; throws IOException if it runs past the file
+    static int recordEnd(BinaryReader in) throws IOException {
+        int length = in.readLength();
+        if (length > in.remaining()) {
+            throw new IOException("Malformed planner file: record runs past end of file");
+        }
+        return in.position() + length;
+    }
+}
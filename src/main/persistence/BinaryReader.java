@@ -0,0 +1,98 @@
+package persistence;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+// Represents a reader of the binary planner format over a buffer of bytes, the counterpart
+// of BinaryWriter
+class BinaryReader {
+    private final ByteBuffer buffer;
+
+    // EFFECTS: constructs a reader starting at the current position of buffer
+    BinaryReader(ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    // EFFECTS: returns the position of the next byte to be read
+    int position() {
+        return this.buffer.position();
+    }
+
+    // EFFECTS: returns the number of bytes left to read
+    int remaining() {
+        return this.buffer.remaining();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: moves to the given position
+    void seek(int position) {
+        this.buffer.position(position);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: reads a single byte; throws IOException if there are no bytes left
+    int readByte() throws IOException {
+        try {
+            return this.buffer.get() & 0xFF;
+        } catch (BufferUnderflowException e) {
+            throw truncated();
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: reads the given number of bytes; throws IOException if there are not enough left
+    byte[] readBytes(int length) throws IOException {
+        if (length < 0 || length > this.buffer.remaining()) {
+            throw truncated();
+        }
+        byte[] bytes = new byte[length];
+        this.buffer.get(bytes);
+        return bytes;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: reads a value written by BinaryWriter.writeVarLong;
+    //          throws IOException if it is cut short or too long
+    long readVarLong() throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed planner file: number too long");
+    }
+
+    // MODIFIES: this
+    // EFFECTS: reads a value written by BinaryWriter.writeSignedVarLong
+    long readSignedVarLong() throws IOException {
+        long value = readVarLong();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: reads a length that must fit in an int;
+    //          throws IOException if it is negative or too large
+    int readLength() throws IOException {
+        long length = readVarLong();
+        if (length < 0 || length > Integer.MAX_VALUE) {
+            throw new IOException("Malformed planner file: invalid length " + length);
+        }
+        return (int) length;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: reads a string written by BinaryWriter.writeString
+    String readString() throws IOException {
+        return new String(readBytes(readLength()), StandardCharsets.UTF_8);
+    }
+
+    // EFFECTS: returns an exception for a file that ends in the middle of a value
+    private IOException truncated() {
+        return new IOException("Malformed planner file: unexpected end of file");
+    }
+}
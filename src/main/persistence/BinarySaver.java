@@ -0,0 +1,73 @@
+package persistence;
+
+import model.*;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+
+// Represents a saver to save the schedule to a file in the binary planner format described
+// in BinaryFormat, a more compact alternative to JsonSaver
+public class BinarySaver {
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private OutputStream out;
+    private String fileName;
+
+    // EFFECTS: constructs saver to save at given filename
+    public BinarySaver(String fileName) {
+        this.fileName = fileName;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: opens saver, throws IOException if unable to open file
+    public void open() throws IOException {
+        out = new BufferedOutputStream(Files.newOutputStream(Paths.get(fileName)), BUFFER_SIZE);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: saves the schedule to file; throws IOException if an error occurs writing
+    public void save(ScheduledList<Appointment> apt, ScheduledList<Task> tasks, HabitTrackers ht)
+            throws IOException {
+        BinaryWriter buffer = new BinaryWriter();
+        BinaryWriter record = new BinaryWriter();
+        BinaryFormat.writeHeader(buffer);
+
+        buffer.writeVarLong(apt.length());
+        for (int i = 0; i < apt.length(); i++) {
+            record.reset();
+            BinaryFormat.writeAppointment(record, apt.getItem(i));
+            flushRecord(buffer, record);
+        }
+        buffer.writeVarLong(tasks.length());
+        for (int i = 0; i < tasks.length(); i++) {
+            record.reset();
+            BinaryFormat.writeTask(record, tasks.getItem(i));
+            flushRecord(buffer, record);
+        }
+        buffer.writeVarLong(ht.numberOfTrackers());
+        for (int i = 0; i < ht.numberOfTrackers(); i++) {
+            record.reset();
+            BinaryFormat.writeTracker(record, ht.getTracker(i));
+            flushRecord(buffer, record);
+        }
+        buffer.writeTo(out);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: closes the file, throws IOException if the remaining output cannot be written
+    public void close() throws IOException {
+        out.close();
+    }
+
+    // MODIFIES: buffer
+    // EFFECTS: adds record to buffer with its length, writing the buffer out once it is full
+    private void flushRecord(BinaryWriter buffer, BinaryWriter record) throws IOException {
+        buffer.writeRecord(record);
+        if (buffer.size() >= BUFFER_SIZE) {
+            buffer.writeTo(out);
+            buffer.reset();
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package persistence;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+// Represents a growable buffer of bytes in the binary planner format: numbers as variable
+// length integers of 7 bits per byte, and strings as their UTF-8 length followed by the bytes
+class BinaryWriter {
+    private byte[] bytes;
+    private int size;
+
+    // EFFECTS: constructs an empty buffer
+    BinaryWriter() {
+        this.bytes = new byte[64];
+        this.size = 0;
+    }
+
+    // EFFECTS: returns number of bytes written
+    int size() {
+        return this.size;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: empties the buffer so it can be reused
+    void reset() {
+        this.size = 0;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes a single byte
+    void writeByte(int value) {
+        ensureCapacity(1);
+        this.bytes[this.size++] = (byte) value;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes the given bytes unchanged
+    void writeBytes(byte[] value) {
+        ensureCapacity(value.length);
+        System.arraycopy(value, 0, this.bytes, this.size, value.length);
+        this.size += value.length;
+    }
+
+    // REQUIRES: value >= 0
+    // MODIFIES: this
+    // EFFECTS: writes value in as few bytes as it needs, 7 bits at a time
+    void writeVarLong(long value) {
+        ensureCapacity(10);
+        while ((value & ~0x7FL) != 0) {
+            this.bytes[this.size++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        this.bytes[this.size++] = (byte) value;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes a value that may be negative, zigzag encoded so small negative values
+    //          stay short
+    void writeSignedVarLong(long value) {
+        writeVarLong((value << 1) ^ (value >> 63));
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes the UTF-8 length of the string followed by its UTF-8 bytes
+    void writeString(String value) {
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(utf8.length);
+        writeBytes(utf8);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes the length of the other buffer followed by its bytes
+    void writeRecord(BinaryWriter record) {
+        writeVarLong(record.size);
+        ensureCapacity(record.size);
+        System.arraycopy(record.bytes, 0, this.bytes, this.size, record.size);
+        this.size += record.size;
+    }
+
+    // EFFECTS: returns a copy of the bytes written
+    byte[] toByteArray() {
+        return Arrays.copyOf(this.bytes, this.size);
+    }
+
+    // EFFECTS: writes everything in the buffer to the given stream
+    void writeTo(OutputStream out) throws IOException {
+        out.write(this.bytes, 0, this.size);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: grows the buffer to fit the given number of extra bytes
+    private void ensureCapacity(int extra) {
+        if (this.size + extra > this.bytes.length) {
+            this.bytes = Arrays.copyOf(this.bytes, Math.max(this.bytes.length * 2, this.size + extra));
+        }
+    }
+}
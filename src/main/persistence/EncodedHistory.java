@@ -0,0 +1,40 @@
+package persistence;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.function.Supplier;
+
+// Represents the completion times of a tracker kept in the compact encoding of the binary
+// planner format until they are needed, for trackers loaded without their history
+class EncodedHistory implements Supplier<long[]> {
+    private final byte[] bytes;
+    private final int count;
+
+    // REQUIRES: bytes hold count times as written by BinaryFormat.writeTimes
+    // EFFECTS: constructs a history from already encoded times
+    EncodedHistory(byte[] bytes, int count) {
+        this.bytes = bytes;
+        this.count = count;
+    }
+
+    // REQUIRES: times are in chronological order
+    // EFFECTS: constructs a history by encoding the given times
+    EncodedHistory(long[] times) {
+        BinaryWriter out = new BinaryWriter();
+        BinaryFormat.writeTimes(out, times.length, i -> times[i]);
+        this.bytes = out.toByteArray();
+        this.count = times.length;
+    }
+
+    // EFFECTS: decodes and returns the completion times;
+    //          throws UncheckedIOException if the encoded times are malformed
+    @Override
+    public long[] get() {
+        try {
+            return BinaryFormat.readTimes(new BinaryReader(ByteBuffer.wrap(this.bytes)), this.count);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,461 @@
+package persistence;
+
+import model.*;
+import org.json.JSONObject;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntConsumer;
+import java.util.zip.CRC32;
+
+// Represents a write-ahead journal of the changes made to a planner since its last full save.
+// Each change is kept as a one-line record and appended to the journal file on commit, so the
+// cost of a commit grows with the changes made rather than with the size of the planner. The
+// planner is recovered by loading the last full save (the snapshot) and replaying the journal
+// over it, and once the journal grows long enough it is compacted into a new snapshot.
+//
+// Each snapshot is saved under a new random id, and the journal starts with a header naming the
+// snapshot it applies to by that id and the snapshot's size, while every record ends with its own
+// checksum, so a journal left behind by another snapshot or a record cut short by a crash is
+// never replayed.
+//
+// A section of the planner is marked clean when it is saved in a snapshot, so its dirty flag
+// tells whether it has changed since the last snapshot.
+public class Journal implements PlannerObserver {
+    private static final String HEADER = "#";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final String SECTION_HABITS = "habit trackers";
+
+    private final String snapshotFile;
+    private final String journalFile;
+    private final int compactAfter;
+    private final int generations;
+    private Planner planner;
+    private StringBuilder pending;
+    private int pendingRecords;
+    private int journalRecords;
+    private boolean synced;
+    private volatile boolean failed;
+    private Runnable changeListener;
+
+    // REQUIRES: compactAfter > 0 and generations >= 0
+    // EFFECTS: constructs a journal over the snapshot at snapshotFile that records changes at
+    //          journalFile, saves a new snapshot once compactAfter changes have been journaled,
+    //          and keeps the given number of previous snapshots
+    public Journal(String snapshotFile, String journalFile, int compactAfter, int generations) {
+        this.snapshotFile = snapshotFile;
+        this.journalFile = journalFile;
+        this.compactAfter = compactAfter;
+        this.generations = generations;
+        this.pending = new StringBuilder();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: starts recording the changes made to given planner, dropping any uncommitted
+    //          changes to the planner recorded before; as the files on disk may not match
+    //          the planner, the next commit saves a full snapshot
+    public void attach(Planner planner) {
+        if (this.planner != null) {
+            this.planner.getAppointments().removeObserver(this);
+            this.planner.getTasks().removeObserver(this);
+            this.planner.getHabits().removeObserver(this);
+        }
+        this.planner = planner;
+        planner.getAppointments().addObserver(this);
+        planner.getTasks().addObserver(this);
+        planner.getHabits().addObserver(this);
+        clearPending();
+        this.journalRecords = 0;
+        this.synced = false;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: loads the snapshot, replays the journaled changes over it, and starts recording
+    //          the changes made to the result, which is returned;
+    //          throws IOException if an error occurs loading
+    public Planner recover() throws IOException {
+        Recovery recovery = readSaved(percent -> { });
+        resume(recovery);
+        return recovery.getPlanner();
+    }
+
+    // EFFECTS: loads the snapshot and replays the journaled changes over it, without touching
+    //          the planner being recorded, so that it can run on another thread; reports the
+    //          percentage done to progress as it goes;
+    //          throws NoSuchFileException if neither the snapshot nor the journal exists, and
+    //          IOException if an error occurs loading
+    public Recovery readSaved(IntConsumer progress) throws IOException {
+        Planner loaded = new Planner();
+        int replayed = -1;
+        if (!Files.exists(Paths.get(this.snapshotFile)) && !Files.exists(Paths.get(this.journalFile))) {
+            throw new NoSuchFileException(this.snapshotFile);
+        }
+        if (Files.exists(Paths.get(this.snapshotFile))) {
+            ParallelJsonLoader loader = new ParallelJsonLoader(this.snapshotFile, true, ForkJoinPool.commonPool());
+            loader.setProgressListener(percent -> progress.accept(percent * 9 / 10));
+            loaded = loader.loadAll();
+            markClean(loaded);
+            replayed = replay(loaded, loader.getSnapshotId());
+        }
+        progress.accept(100);
+        return new Recovery(loaded, replayed);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: starts recording the changes made to the recovered planner in place of the
+    //          planner recorded so far
+    public void resume(Recovery recovery) {
+        attach(recovery.getPlanner());
+        this.journalRecords = Math.max(recovery.replayed, 0);
+        this.synced = recovery.replayed >= 0;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: sets a listener to be told each time a change is recorded, on the thread that
+    //          made the change
+    public void setChangeListener(Runnable listener) {
+        this.changeListener = listener;
+    }
+
+    // EFFECTS: returns true if changes have been recorded since the last commit
+    public boolean hasPendingChanges() {
+        return this.pendingRecords > 0;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: records the given change to the planner until the next commit
+    @Override
+    public void update(PlannerEvent event) {
+        StringBuilder record = new StringBuilder();
+        record.append(event.getKind().name().charAt(0)).append('\t')
+                .append(event.getSection()).append('\t')
+                .append(event.getIndex());
+        if (event.getKind() == PlannerEvent.Kind.ADD) {
+            record.append('\t').append(event.getItem().toJson().toString());
+        } else if (event.getKind() == PlannerEvent.Kind.MARK) {
+            record.append('\t').append(event.getTime());
+        }
+        String body = record.toString();
+        this.pending.append(body).append('\t').append(checksum(body)).append('\n');
+        this.pendingRecords++;
+        if (this.changeListener != null) {
+            this.changeListener.run();
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: makes the changes recorded since the last commit durable, as written by
+    //          takeCommit; throws IOException if an error occurs writing
+    public void commit() throws IOException {
+        PendingWrite write = takeCommit();
+        if (write != null) {
+            write.write();
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: takes what is needed to make the changes recorded since the last commit durable,
+    //          so that it can be written later, on another thread, while the planner keeps
+    //          changing: the recorded changes, or a copy of the whole planner to save as a new
+    //          snapshot if the journal would grow past its limit, the files on disk do not
+    //          match the planner, or an earlier write failed, in which case every section is
+    //          marked clean; the copy shares the dates of trackers that have not fetched them
+    //          rather than fetching them; returns null if there is nothing to write
+    public PendingWrite takeCommit() {
+        PendingWrite write = null;
+        if (!this.synced || this.failed || this.journalRecords + this.pendingRecords >= this.compactAfter) {
+            String snapshotId = Long.toHexString(ThreadLocalRandom.current().nextLong());
+            write = new PendingWrite(null, copySections(), snapshotId, this.pendingRecords);
+            markClean(this.planner);
+            this.journalRecords = 0;
+            this.synced = true;
+        } else if (this.pendingRecords > 0) {
+            write = new PendingWrite(this.pending.toString(), null, null, this.pendingRecords);
+            this.journalRecords += this.pendingRecords;
+        }
+        clearPending();
+        return write;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: saves the whole planner as a new snapshot and starts an empty journal over it;
+    //          throws IOException if an error occurs writing
+    public void compact() throws IOException {
+        this.synced = false;
+        commit();
+    }
+
+    // EFFECTS: returns a copy of each section of the planner that does not change as the planner
+    //          changes, sharing the dates of trackers that have not fetched them yet
+    private SectionCopy[] copySections() {
+        ScheduledList<Appointment> apt = this.planner.getAppointments();
+        List<Saveable> appointments = new ArrayList<>(apt.length());
+        for (int i = 0; i < apt.length(); i++) {
+            appointments.add(new Appointment(apt.getItem(i)));
+        }
+        ScheduledList<Task> tasks = this.planner.getTasks();
+        List<Saveable> taskCopies = new ArrayList<>(tasks.length());
+        for (int i = 0; i < tasks.length(); i++) {
+            taskCopies.add(new Task(tasks.getItem(i)));
+        }
+        HabitTrackers ht = this.planner.getHabits();
+        List<Saveable> trackers = new ArrayList<>(ht.numberOfTrackers());
+        for (int i = 0; i < ht.numberOfTrackers(); i++) {
+            trackers.add(new Tracker(ht.getTracker(i)));
+        }
+        return new SectionCopy[] {new SectionCopy(apt.getType(), appointments),
+                new SectionCopy(tasks.getType(), taskCopies), new SectionCopy(SECTION_HABITS, trackers)};
+    }
+
+    // EFFECTS: saves the given copy of the planner's sections as the snapshot with the given id
+    //          and starts an empty journal over it
+    private void writeSnapshot(SectionCopy[] sections, String snapshotId) throws IOException {
+        JsonSaver saver = new JsonSaver(this.snapshotFile, true, this.generations);
+        saver.open();
+        saver.saveSnapshot(snapshotId, sections[0], sections[1], sections[2]);
+        saver.close();
+
+        Path temp = Paths.get(this.journalFile + TEMP_SUFFIX);
+        String header = header(snapshotId, Files.size(Paths.get(this.snapshotFile)));
+        Files.write(temp, (header + "\n").getBytes(StandardCharsets.UTF_8));
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+        Files.move(temp, Paths.get(this.journalFile), StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    // EFFECTS: appends the given records to the journal file and forces them to disk
+    private void append(String records) throws IOException {
+        ByteBuffer bytes = StandardCharsets.UTF_8.encode(records);
+        try (FileChannel channel = FileChannel.open(Paths.get(this.journalFile),
+                StandardOpenOption.WRITE, StandardOpenOption.APPEND)) {
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+            channel.force(false);
+        }
+    }
+
+    // MODIFIES: planner
+    // EFFECTS: marks every section of planner as matching the snapshot
+    private static void markClean(Planner planner) {
+        planner.getAppointments().markClean();
+        planner.getTasks().markClean();
+        planner.getHabits().markClean();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: forgets the records made since the last commit
+    private void clearPending() {
+        this.pending.setLength(0);
+        this.pendingRecords = 0;
+    }
+
+    // MODIFIES: planner
+    // EFFECTS: replays the journaled changes over planner, loaded from the snapshot with the
+    //          given id, in order and returns how many were replayed, or -1 if there is no
+    //          journal for the snapshot or a record could not be replayed, in which case
+    //          replaying stops at that record
+    private int replay(Planner planner, String snapshotId) throws IOException {
+        Path path = Paths.get(this.journalFile);
+        if (snapshotId == null || !Files.exists(path)) {
+            return -1;
+        }
+        String header = header(snapshotId, Files.size(Paths.get(this.snapshotFile)));
+        try (BufferedReader in = Files.newBufferedReader(path, StandardCharsets.UTF_8)) {
+            if (!header.equals(in.readLine())) {
+                return -1;
+            }
+            int count = 0;
+            for (String line = in.readLine(); line != null; line = in.readLine()) {
+                if (!replayRecord(planner, line)) {
+                    return -1;
+                }
+                count++;
+            }
+            return count;
+        }
+    }
+
+    // MODIFIES: planner
+    // EFFECTS: replays a single record over planner, returning false if the record is cut
+    //          short, damaged, or does not fit the planner
+    private boolean replayRecord(Planner planner, String line) {
+        int split = line.lastIndexOf('\t');
+        if (split < 0 || !checksum(line.substring(0, split)).equals(line.substring(split + 1))) {
+            return false;
+        }
+        String[] fields = line.substring(0, split).split("\t", 4);
+        try {
+            PlannerEvent.Kind kind = kindOf(fields[0]);
+            int index = Integer.parseInt(fields[2]);
+            String payload = fields.length > 3 ? fields[3] : null;
+            return apply(planner, kind, fields[1], index, payload);
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    // MODIFIES: planner
+    // EFFECTS: makes the given change to the named section of planner, returning false if
+    //          the section is unknown
+    private boolean apply(Planner planner, PlannerEvent.Kind kind, String section, int index, String payload) {
+        switch (section) {
+            case "appointments":
+                applyToAppointments(planner.getAppointments(), kind, index, payload);
+                return true;
+            case "tasks":
+                applyToTasks(planner.getTasks(), kind, index, payload);
+                return true;
+            case SECTION_HABITS:
+                applyToHabits(planner.getHabits(), kind, index, payload);
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    // MODIFIES: apt
+    // EFFECTS: makes the given change to apt
+    private void applyToAppointments(ScheduledList<Appointment> apt, PlannerEvent.Kind kind, int index,
+                                     String payload) {
+        if (kind == PlannerEvent.Kind.ADD) {
+            apt.addItem(JsonLoader.parseAppointment(new JSONObject(payload)));
+        } else if (kind == PlannerEvent.Kind.REMOVE) {
+            apt.removeItem(apt.getItem(index));
+        } else {
+            throw new IllegalArgumentException("Appointments cannot be " + kind);
+        }
+    }
+
+    // MODIFIES: tasks
+    // EFFECTS: makes the given change to tasks
+    private void applyToTasks(ScheduledList<Task> tasks, PlannerEvent.Kind kind, int index, String payload) {
+        if (kind == PlannerEvent.Kind.ADD) {
+            tasks.addItem(JsonLoader.parseTask(new JSONObject(payload)));
+        } else if (kind == PlannerEvent.Kind.REMOVE) {
+            tasks.removeItem(tasks.getItem(index));
+        } else if (kind == PlannerEvent.Kind.TOGGLE) {
+            tasks.getItem(index).toggleCompletion();
+        } else {
+            throw new IllegalArgumentException("Tasks cannot be " + kind);
+        }
+    }
+
+    // MODIFIES: ht
+    // EFFECTS: makes the given change to ht
+    private void applyToHabits(HabitTrackers ht, PlannerEvent.Kind kind, int index, String payload) {
+        if (kind == PlannerEvent.Kind.ADD) {
+            ht.addTracker(JsonLoader.parseTracker(new JSONObject(payload)));
+        } else if (kind == PlannerEvent.Kind.REMOVE) {
+            ht.removeTracker(index);
+        } else if (kind == PlannerEvent.Kind.MARK) {
+            ht.getTracker(index).addToTracker(Long.parseLong(payload));
+        } else if (kind == PlannerEvent.Kind.UNMARK) {
+            ht.getTracker(index).unmarkDone();
+        } else {
+            throw new IllegalArgumentException("Trackers cannot be " + kind);
+        }
+    }
+
+    // EFFECTS: returns the kind of change whose name starts with the given code
+    private static PlannerEvent.Kind kindOf(String code) {
+        for (PlannerEvent.Kind kind : PlannerEvent.Kind.values()) {
+            if (code.length() == 1 && kind.name().charAt(0) == code.charAt(0)) {
+                return kind;
+            }
+        }
+        throw new IllegalArgumentException("Unknown change " + code);
+    }
+
+    // EFFECTS: returns the header naming the snapshot with the given id and size
+    private static String header(String snapshotId, long size) {
+        return HEADER + "\t" + snapshotId + "\t" + size;
+    }
+
+    // EFFECTS: returns the checksum of the given record as hex
+    private static String checksum(String record) {
+        CRC32 crc = new CRC32();
+        crc.update(record.getBytes(StandardCharsets.UTF_8));
+        return Long.toHexString(crc.getValue());
+    }
+
+    // represents what a commit takes from the journal, waiting to be written to disk
+    public class PendingWrite {
+        private final String text;
+        private final SectionCopy[] sections;
+        private final String snapshotId;
+        private final int records;
+
+        // EFFECTS: constructs a write of the given records to append, or, if snapshotId is not
+        //          null, of the given copied sections as a snapshot with that id, that covers
+        //          the given number of recorded changes
+        private PendingWrite(String text, SectionCopy[] sections, String snapshotId, int records) {
+            this.text = text;
+            this.sections = sections;
+            this.snapshotId = snapshotId;
+            this.records = records;
+        }
+
+        // EFFECTS: returns true if this writes a whole snapshot rather than appending records
+        public boolean isSnapshot() {
+            return this.snapshotId != null;
+        }
+
+        // EFFECTS: returns the number of recorded changes this makes durable
+        public int getRecords() {
+            return this.records;
+        }
+
+        // REQUIRES: every write taken before this one has been written
+        // EFFECTS: writes to disk; if an error occurs writing, throws IOException and makes the
+        //          next commit save a whole snapshot, and refuses to append records until then
+        public void write() throws IOException {
+            try {
+                if (this.snapshotId != null) {
+                    writeSnapshot(this.sections, this.snapshotId);
+                    failed = false;
+                } else if (failed) {
+                    throw new IOException("Journal must be compacted after a failed write");
+                } else {
+                    append(this.text);
+                }
+            } catch (IOException e) {
+                failed = true;
+                throw e;
+            }
+        }
+    }
+
+    // represents a planner read back from the snapshot and journal, ready to be resumed
+    public static class Recovery {
+        private final Planner planner;
+        private final int replayed;
+
+        // EFFECTS: constructs a recovery of the given planner, with the given number of records
+        //          replayed, or -1 if the journal could not be replayed
+        private Recovery(Planner planner, int replayed) {
+            this.planner = planner;
+            this.replayed = replayed;
+        }
+
+        // EFFECTS: returns the planner recovered
+        public Planner getPlanner() {
+            return this.planner;
+        }
+    }
+}
@@ -8,6 +8,7 @@ import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Paths;
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.stream.Stream;
 
@@ -31,28 +32,50 @@ public class JsonLoader {
         return contentBuilder.toString();
     }
 
-    // EFFECTS: loads saved appointments from this file;
+    // EFFECTS: reads and parses this file once;
     //          throws IOException if an error occurs loading
-    public ScheduledList<Appointment> loadAppointments() throws IOException {
+    private JSONArray readSchedule() throws IOException {
         String data = readFile(fileName);
         JSONObject obj = new JSONObject(data);
-        return parseAppointments(obj.getJSONArray("saved schedule").getJSONObject(0));
+        return obj.getJSONArray("saved schedule");
+    }
+
+    // EFFECTS: loads the whole saved planner from this file, reading it only once;
+    //          throws IOException if an error occurs loading
+    public Planner loadAll() throws IOException {
+        JSONArray schedule = readSchedule();
+        return new Planner(parseAppointments(schedule.getJSONObject(0)),
+                parseTasks(schedule.getJSONObject(1)),
+                parseTrackers(schedule.getJSONObject(2)));
+    }
+
+    // EFFECTS: loads saved appointments from this file;
+    //          throws IOException if an error occurs loading
+    public ScheduledList<Appointment> loadAppointments() throws IOException {
+        return parseAppointments(readSchedule().getJSONObject(0));
     }
 
     // EFFECTS: parses appointments from JSON object and returns it
     private ScheduledList<Appointment> parseAppointments(JSONObject obj) {
         JSONArray array = obj.getJSONArray("appointments");
-        ScheduledList<Appointment> apt = new ScheduledList<>("appointments");
+        ArrayList<Appointment> batch = new ArrayList<>(array.length());
         for (Object json : array) {
             JSONObject nextItem = (JSONObject) json;
-            addAppointment(apt, nextItem);
+            addAppointment(batch, nextItem);
         }
+        ScheduledList<Appointment> apt = new ScheduledList<>("appointments");
+        apt.addAll(batch);
         return apt;
     }
 
     // EFFECTS: parses an appointment from JSON object and adds it
-    //          to given list
-    private void addAppointment(ScheduledList<Appointment> apt, JSONObject item) {
+    //          to given batch
+    private void addAppointment(ArrayList<Appointment> apt, JSONObject item) {
+        apt.add(parseAppointment(item));
+    }
+
+    // EFFECTS: parses an appointment from JSON object and returns it
+    static Appointment parseAppointment(JSONObject item) {
         String name = item.getString("name");
         String desc = item.getString("description");
         Calendar date = Calendar.getInstance();
@@ -60,32 +83,36 @@ public class JsonLoader {
         int hours = item.getInt("hours");
         int minutes = item.getInt("minutes");
 
-        Appointment appointment = new Appointment(name, desc, date, hours, minutes);
-        apt.addItem(appointment);
+        return new Appointment(name, desc, date, hours, minutes);
     }
 
     // EFFECTS: loads saved tasks from this file;
     //          throws IOException if an error occurs loading
     public ScheduledList<Task> loadTasks() throws IOException {
-        String data = readFile(fileName);
-        JSONObject obj = new JSONObject(data);
-        return parseTasks(obj.getJSONArray("saved schedule").getJSONObject(1));
+        return parseTasks(readSchedule().getJSONObject(1));
     }
 
     // EFFECTS: parses tasks from JSON object and returns it
     private ScheduledList<Task> parseTasks(JSONObject obj) {
         JSONArray array = obj.getJSONArray("tasks");
-        ScheduledList<Task> tasks = new ScheduledList<>("tasks");
+        ArrayList<Task> batch = new ArrayList<>(array.length());
         for (Object json : array) {
             JSONObject nextItem = (JSONObject) json;
-            addTask(tasks, nextItem);
+            addTask(batch, nextItem);
         }
+        ScheduledList<Task> tasks = new ScheduledList<>("tasks");
+        tasks.addAll(batch);
         return tasks;
     }
 
     // EFFECTS: parses a task from JSON object and adds it
-    //          to given list
-    private void addTask(ScheduledList<Task> tasks, JSONObject item) {
+    //          to given batch
+    private void addTask(ArrayList<Task> tasks, JSONObject item) {
+        tasks.add(parseTask(item));
+    }
+
+    // EFFECTS: parses a task from JSON object and returns it
+    static Task parseTask(JSONObject item) {
         String name = item.getString("name");
         String desc = item.getString("description");
         Calendar due = Calendar.getInstance();
@@ -98,15 +125,13 @@ public class JsonLoader {
             task.toggleCompletion();
         }
 
-        tasks.addItem(task);
+        return task;
     }
 
     // EFFECTS: loads saved habit trackers from this file;
     //          throws IOException if an error occurs loading
     public HabitTrackers loadHabits() throws IOException {
-        String data = readFile(fileName);
-        JSONObject obj = new JSONObject(data);
-        return parseTrackers(obj.getJSONArray("saved schedule").getJSONObject(2));
+        return parseTrackers(readSchedule().getJSONObject(2));
     }
 
     // EFFECTS: parses habit trackers from JSON object and returns it
@@ -123,30 +148,27 @@ public class JsonLoader {
     // EFFECTS: parses an individual tracker and adds it to given
     //          habit tracker list
     private void addTracker(HabitTrackers ht, JSONObject item) {
+        ht.addTracker(parseTracker(item));
+    }
+
+    // EFFECTS: parses an individual tracker from JSON object and returns it
+    static Tracker parseTracker(JSONObject item) {
         String name = item.getString("name");
         Tracker tracker = new Tracker(name);
 
         addTrackerDates(tracker, item);
 
-        ht.addTracker(tracker);
+        return tracker;
     }
 
     // EFFECTS: parses the completed dates of a tracker and adds it to
     //          given tracker
-    private void addTrackerDates(Tracker tracker, JSONObject item) {
+    private static void addTrackerDates(Tracker tracker, JSONObject item) {
         JSONArray arr = item.getJSONArray("times complete");
-        for (Object json : arr) {
-            JSONObject nextItem = (JSONObject) json;
-            long date = nextItem.getLong("time");
-            addDate(tracker, date);
+        long[] dates = new long[arr.length()];
+        for (int i = 0; i < dates.length; i++) {
+            dates[i] = arr.getJSONObject(i).getLong("time");
         }
-    }
-
-    // EFFECTS: parses a single completed dates of a tracker and adds it to
-    //          given tracker
-    private void addDate(Tracker tracker, Long date) {
-        Calendar cal = Calendar.getInstance();
-        cal.setTimeInMillis(date);
-        tracker.addToTracker(cal);
+        tracker.loadHistory(dates);
     }
 }
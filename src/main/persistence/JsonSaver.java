@@ -7,32 +7,85 @@ import model.Task;
 import org.json.JSONArray;
 import org.json.JSONObject;
 
-import java.io.File;
-import java.io.FileNotFoundException;
+import java.io.BufferedWriter;
+import java.io.IOException;
 import java.io.PrintWriter;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 
 // Represents a saver to save the schedule to a saved file
 // created by referencing CPSC210's JsonSerializationDemo
 public class JsonSaver {
     private static final int INDENT = 4;
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String TEMP_SUFFIX = ".tmp";
     private PrintWriter writer;
+    private JsonStreamWriter streamWriter;
+    private FileChannel channel;
     private String fileName;
+    private boolean streaming;
+    private boolean atomic;
+    private int generations;
 
     // EFFECTS: constructs saver to save at given filename
     public JsonSaver(String fileName) {
+        this(fileName, false);
+    }
+
+    // EFFECTS: constructs saver to save at given filename; if streaming, each item is
+    //          written straight to a buffered file channel on one line instead of building
+    //          the whole indented JSON document in memory first
+    public JsonSaver(String fileName, boolean streaming) {
         this.fileName = fileName;
+        this.streaming = streaming;
+        this.atomic = false;
+        this.generations = 0;
+    }
+
+    // REQUIRES: generations >= 0
+    // EFFECTS: constructs saver that saves atomically at given filename: the schedule is
+    //          written to a sibling temp file, forced to disk, then moved over the file, so
+    //          a crash mid-save leaves the last complete save in place; the given number of
+    //          previous saves are kept as fileName.1 (newest) to fileName.generations
+    public JsonSaver(String fileName, boolean streaming, int generations) {
+        this(fileName, streaming);
+        this.atomic = true;
+        this.generations = generations;
     }
 
     // MODIFIES: this
-    // EFFECTS: opens saver, throws FileNotFoundException if unable
+    // EFFECTS: opens saver, throws IOException if unable
     //          to open file
-    public void open() throws FileNotFoundException {
-        writer = new PrintWriter(new File(fileName));
+    public void open() throws IOException {
+        Path target = atomic ? tempPath() : Paths.get(fileName);
+        channel = FileChannel.open(target, StandardOpenOption.WRITE,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+        Writer out = new BufferedWriter(Channels.newWriter(channel, StandardCharsets.UTF_8.newEncoder(),
+                BUFFER_SIZE), BUFFER_SIZE);
+        if (streaming) {
+            streamWriter = new JsonStreamWriter(out, 0);
+        } else {
+            writer = new PrintWriter(out);
+        }
     }
 
     // MODIFIES: this
-    // EFFECTS: saves a JSON representation of the schedule to file
-    public void save(ScheduledList<Appointment> apt, ScheduledList<Task> tasks, HabitTrackers ht) {
+    // EFFECTS: saves a JSON representation of the schedule to file;
+    //          throws IOException if an error occurs writing to the file
+    public void save(ScheduledList<Appointment> apt, ScheduledList<Task> tasks, HabitTrackers ht)
+            throws IOException {
+        if (streaming) {
+            writeSchedule(streamWriter, null, apt, tasks, ht);
+            return;
+        }
         JSONArray arr = new JSONArray();
         arr.put(apt.toJson());
         arr.put(tasks.toJson());
@@ -43,9 +96,120 @@ public class JsonSaver {
         writer.print(obj.toString(INDENT));
     }
 
+    // REQUIRES: saver is streaming
+    // MODIFIES: this
+    // EFFECTS: saves the given sections of a schedule to file as a snapshot with the given id,
+    //          in the same layout as save;
+    //          throws IOException if an error occurs writing to the file
+    void saveSnapshot(String snapshotId, Saveable apt, Saveable tasks, Saveable ht) throws IOException {
+        writeSchedule(streamWriter, snapshotId, apt, tasks, ht);
+    }
+
+    // MODIFIES: writer
+    // EFFECTS: writes the whole schedule to writer as a single JSON document, naming it by the
+    //          given snapshot id unless it is null
+    private static void writeSchedule(JsonStreamWriter writer, String snapshotId, Saveable apt, Saveable tasks,
+                                      Saveable ht) throws IOException {
+        writer.beginObject();
+        if (snapshotId != null) {
+            writer.name("snapshot id").value(snapshotId);
+        }
+        writer.name("saved schedule").beginArray();
+        apt.write(writer);
+        tasks.write(writer);
+        ht.write(writer);
+        writer.endArray().endObject();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: saves a JSON representation of a single section of the schedule to file;
+    //          throws IOException if an error occurs writing to the file
+    public void saveSection(Saveable section) throws IOException {
+        if (streaming) {
+            section.write(streamWriter);
+        } else {
+            writer.print(section.toJson().toString(INDENT));
+        }
+    }
+
     // MODIFIES: this
-    // EFFECTS: closes writer
-    public void close() {
-        writer.close();
+    // EFFECTS: closes writer; if saving atomically, forces the temp file to disk, rotates the
+    //          previous saves and moves the temp file over the file;
+    //          throws IOException if the remaining output cannot be written or moved
+    public void close() throws IOException {
+        try {
+            if (streaming) {
+                streamWriter.flush();
+            } else if (writer.checkError()) {
+                throw new IOException("Error writing to file: " + fileName);
+            }
+            if (atomic) {
+                channel.force(true);
+            }
+        } finally {
+            if (streaming) {
+                streamWriter.close();
+            } else {
+                writer.close();
+            }
+        }
+        if (atomic) {
+            replace();
+        }
+    }
+
+    // MODIFIES: files on disk
+    // EFFECTS: shifts each kept generation up by one, keeps the current file as generation 1,
+    //          and atomically moves the temp file into its place
+    private void replace() throws IOException {
+        Path target = Paths.get(fileName);
+        for (int i = generations - 1; i >= 1; i--) {
+            Path older = generation(i);
+            if (Files.exists(older)) {
+                Files.move(older, generation(i + 1), StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+        if (generations > 0 && Files.exists(target)) {
+            keepAsGeneration(target, generation(1));
+        }
+        try {
+            Files.move(tempPath(), target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(tempPath(), target, StandardCopyOption.REPLACE_EXISTING);
+        }
+        syncDirectory(target);
+    }
+
+    // MODIFIES: files on disk
+    // EFFECTS: makes kept a hard link to the current file, or a copy of it where links are not
+    //          supported, leaving the current file in place until the new save replaces it
+    private void keepAsGeneration(Path target, Path kept) throws IOException {
+        Files.deleteIfExists(kept);
+        try {
+            Files.createLink(kept, target);
+        } catch (UnsupportedOperationException | IOException e) {
+            Files.copy(target, kept, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    // EFFECTS: forces the directory holding target to disk so the rename survives a crash,
+    //          where the platform allows directories to be opened
+    private void syncDirectory(Path target) {
+        Path dir = target.toAbsolutePath().getParent();
+        try (FileChannel dirChannel = FileChannel.open(dir, StandardOpenOption.READ)) {
+            dirChannel.force(true);
+        } catch (IOException e) {
+            // not every platform can sync a directory; the move itself is still atomic
+        }
+    }
+
+    // EFFECTS: returns the path of the temp file written before it replaces the file
+    private Path tempPath() {
+        return Paths.get(fileName + TEMP_SUFFIX);
+    }
+
+    // EFFECTS: returns the path of the given kept generation of the file
+    private Path generation(int i) {
+        return Paths.get(fileName + "." + i);
     }
 }
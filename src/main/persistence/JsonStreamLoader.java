@@ -0,0 +1,372 @@
+package persistence;
+
+import model.*;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.function.IntConsumer;
+
+// Represents a loader that reads a saved schedule in the same format as JsonLoader,
+// creating appointments, tasks and trackers as the file is read instead of parsing
+// the whole file into memory first
+public class JsonStreamLoader {
+    private static final String[] APPOINTMENT_FIELDS = {"name", "description", "date", "hours", "minutes"};
+    private static final String[] TASK_FIELDS = {"name", "description", "due", "completion"};
+    private static final String[] TRACKER_FIELDS = {"name", "times complete"};
+    private static final String[] DATE_FIELDS = {"time"};
+
+    private String fileName;
+    private Calendar scratch;
+    private boolean lazyHistories;
+    private IntConsumer progress;
+    private String snapshotId;
+
+    // EFFECTS: constructs loader in reference to given filename
+    public JsonStreamLoader(String fileName) {
+        this(fileName, false);
+    }
+
+    // EFFECTS: constructs loader in reference to given filename; if lazyHistories, the dates
+    //          of each tracker are kept compactly encoded and only built into its history,
+    //          streaks, and calendar the first time something needs more than their number
+    //          or the latest date
+    public JsonStreamLoader(String fileName, boolean lazyHistories) {
+        this.fileName = fileName;
+        this.scratch = Calendar.getInstance();
+        this.lazyHistories = lazyHistories;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: sets a listener told the percentage of the file read so far while loading
+    public void setProgressListener(IntConsumer progress) {
+        this.progress = progress;
+    }
+
+    // EFFECTS: returns the id the last file loaded was saved under as a journal snapshot, or
+    //          null if it has none
+    public String getSnapshotId() {
+        return this.snapshotId;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: loads the whole saved planner from this file;
+    //          throws IOException if an error occurs loading or the file is malformed
+    public Planner loadAll() throws IOException {
+        InputStreamReader in = new InputStreamReader(open(), StandardCharsets.UTF_8);
+        try (JsonTokenizer reader = new JsonTokenizer(in)) {
+            Planner planner = new Planner();
+            this.snapshotId = null;
+            reader.beginObject();
+            while (reader.hasNext()) {
+                String name = reader.nextName();
+                if (name.equals("saved schedule")) {
+                    readSchedule(reader, planner);
+                } else if (name.equals("snapshot id")) {
+                    this.snapshotId = reader.nextString();
+                } else {
+                    reader.skipValue();
+                }
+            }
+            reader.endObject();
+            return planner;
+        }
+    }
+
+    // MODIFIES: planner
+    // EFFECTS: loads a file holding a single object of saved sections, such as one written by
+    //          JsonSaver.saveSection, into planner;
+    //          throws IOException if an error occurs loading or the file is malformed
+    public void loadSectionsInto(Planner planner) throws IOException {
+        InputStreamReader in = new InputStreamReader(open(), StandardCharsets.UTF_8);
+        try (JsonTokenizer reader = new JsonTokenizer(in)) {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                readSection(reader, reader.nextName(), planner);
+            }
+            reader.endObject();
+        }
+    }
+
+    // EFFECTS: opens this file, reporting how much of it has been read if there is a listener
+    private InputStream open() throws IOException {
+        InputStream in = Files.newInputStream(Paths.get(fileName));
+        if (this.progress == null) {
+            return in;
+        }
+        return new ProgressInputStream(in, Files.size(Paths.get(fileName)), this.progress);
+    }
+
+    // MODIFIES: planner
+    // EFFECTS: reads the array of saved sections into planner
+    private void readSchedule(JsonTokenizer reader, Planner planner) throws IOException {
+        reader.beginArray();
+        while (reader.hasNext()) {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                readSection(reader, reader.nextName(), planner);
+            }
+            reader.endObject();
+        }
+        reader.endArray();
+    }
+
+    // MODIFIES: planner
+    // EFFECTS: reads the section with the given name into planner, skipping unknown sections
+    private void readSection(JsonTokenizer reader, String name, Planner planner) throws IOException {
+        switch (name) {
+            case "appointments":
+                readAppointments(reader, planner.getAppointments());
+                break;
+            case "tasks":
+                readTasks(reader, planner.getTasks());
+                break;
+            case "habit trackers":
+                readTrackers(reader, planner.getHabits());
+                break;
+            default:
+                reader.skipValue();
+        }
+    }
+
+    // MODIFIES: apt
+    // EFFECTS: reads an array of appointments and adds them to apt
+    private void readAppointments(JsonTokenizer reader, ScheduledList<Appointment> apt) throws IOException {
+        ArrayList<Appointment> batch = new ArrayList<>();
+        reader.beginArray();
+        while (reader.hasNext()) {
+            batch.add(readAppointment(reader));
+        }
+        reader.endArray();
+        apt.addAll(batch);
+    }
+
+    // EFFECTS: reads a single appointment
+    Appointment readAppointment(JsonTokenizer reader) throws IOException {
+        Appointment appointment = new Appointment();
+        long[] time = new long[3];
+        int seen = 0;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            seen |= readAppointmentField(reader, reader.nextName(), appointment, time);
+        }
+        reader.endObject();
+        requireFields(seen, APPOINTMENT_FIELDS, "appointment");
+        this.scratch.setTimeInMillis(time[0]);
+        appointment.setTimePeriod(new CalendarInterval(this.scratch, (int) time[1], (int) time[2]));
+        return appointment;
+    }
+
+    // MODIFIES: appointment, time
+    // EFFECTS: reads the value of the given field into appointment, or into time as
+    //          {date, hours, minutes} for the fields that make up its time period; returns the
+    //          bit of the field in APPOINTMENT_FIELDS, or 0 if it is not one of them
+    private int readAppointmentField(JsonTokenizer reader, String field, Appointment appointment, long[] time)
+            throws IOException {
+        switch (field) {
+            case "name":
+                appointment.setName(reader.nextString());
+                return 1;
+            case "description":
+                appointment.setDescription(reader.nextString());
+                return 1 << 1;
+            case "date":
+                time[0] = reader.nextLong();
+                return 1 << 2;
+            case "hours":
+                time[1] = reader.nextLong();
+                return 1 << 3;
+            case "minutes":
+                time[2] = reader.nextLong();
+                return 1 << 4;
+            default:
+                reader.skipValue();
+                return 0;
+        }
+    }
+
+    // MODIFIES: tasks
+    // EFFECTS: reads an array of tasks and adds them to tasks
+    private void readTasks(JsonTokenizer reader, ScheduledList<Task> tasks) throws IOException {
+        ArrayList<Task> batch = new ArrayList<>();
+        reader.beginArray();
+        while (reader.hasNext()) {
+            batch.add(readTask(reader));
+        }
+        reader.endArray();
+        tasks.addAll(batch);
+    }
+
+    // EFFECTS: reads a single task
+    Task readTask(JsonTokenizer reader) throws IOException {
+        Task task = new Task();
+        int seen = 0;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            seen |= readTaskField(reader, reader.nextName(), task);
+        }
+        reader.endObject();
+        requireFields(seen, TASK_FIELDS, "task");
+        return task;
+    }
+
+    // MODIFIES: task
+    // EFFECTS: reads the value of the given field into task; returns the bit of the field in
+    //          TASK_FIELDS, or 0 if it is not one of them
+    private int readTaskField(JsonTokenizer reader, String field, Task task) throws IOException {
+        switch (field) {
+            case "name":
+                task.setName(reader.nextString());
+                return 1;
+            case "description":
+                task.setDescription(reader.nextString());
+                return 1 << 1;
+            case "due":
+                this.scratch.setTimeInMillis(reader.nextLong());
+                task.setDue(this.scratch);
+                return 1 << 2;
+            case "completion":
+                if (reader.nextBoolean() != task.isComplete()) {
+                    task.toggleCompletion();
+                }
+                return 1 << 3;
+            default:
+                reader.skipValue();
+                return 0;
+        }
+    }
+
+    // MODIFIES: ht
+    // EFFECTS: reads an array of habit trackers and adds them to ht
+    private void readTrackers(JsonTokenizer reader, HabitTrackers ht) throws IOException {
+        reader.beginArray();
+        while (reader.hasNext()) {
+            ht.addTracker(readTracker(reader));
+        }
+        reader.endArray();
+    }
+
+    // EFFECTS: reads a single habit tracker with all of its completed dates
+    Tracker readTracker(JsonTokenizer reader) throws IOException {
+        String name = "";
+        long[] dates = new long[0];
+        int seen = 0;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String field = reader.nextName();
+            if (field.equals("name")) {
+                name = reader.nextString();
+                seen |= 1;
+            } else if (field.equals("times complete")) {
+                dates = readTrackerDates(reader);
+                seen |= 1 << 1;
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+        requireFields(seen, TRACKER_FIELDS, "habit tracker");
+        if (lazyHistories && dates.length > 0) {
+            Arrays.sort(dates);
+            return new Tracker(name, dates.length, dates[dates.length - 1], new EncodedHistory(dates));
+        }
+        Tracker tracker = new Tracker(name);
+        tracker.loadHistory(dates);
+        return tracker;
+    }
+
+    // EFFECTS: reads the array of completed dates of a tracker
+    private long[] readTrackerDates(JsonTokenizer reader) throws IOException {
+        long[] dates = new long[16];
+        int size = 0;
+        reader.beginArray();
+        while (reader.hasNext()) {
+            if (size == dates.length) {
+                dates = Arrays.copyOf(dates, size * 2);
+            }
+            dates[size++] = readTrackerDate(reader);
+        }
+        reader.endArray();
+        return Arrays.copyOf(dates, size);
+    }
+
+    // EFFECTS: reads a single {"time": ...} completed date of a tracker
+    private long readTrackerDate(JsonTokenizer reader) throws IOException {
+        long time = 0;
+        int seen = 0;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            if (reader.nextName().equals("time")) {
+                time = reader.nextLong();
+                seen = 1;
+            } else {
+                reader.skipValue();
+            }
+        }
+        reader.endObject();
+        requireFields(seen, DATE_FIELDS, "completed date");
+        return time;
+    }
+
+    // EFFECTS: throws IOException naming the first of the fields of an item of the given kind
+    //          that was not read, where bit i of seen is set if fields[i] was read
+    private static void requireFields(int seen, String[] fields, String kind) throws IOException {
+        for (int i = 0; i < fields.length; i++) {
+            if ((seen & (1 << i)) == 0) {
+                throw new IOException("Malformed planner file: " + kind + " without \"" + fields[i] + "\"");
+            }
+        }
+    }
+
+    // represents a stream telling a listener the percentage of a file of known size read so far
+    private static class ProgressInputStream extends FilterInputStream {
+        private final long size;
+        private final IntConsumer progress;
+        private long read;
+        private int reported;
+
+        // EFFECTS: constructs a stream reading in, a file of the given size
+        ProgressInputStream(InputStream in, long size, IntConsumer progress) {
+            super(in);
+            this.size = Math.max(size, 1);
+            this.progress = progress;
+            this.reported = -1;
+        }
+
+        // MODIFIES: this
+        // EFFECTS: reads a single byte
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            advance(b < 0 ? 0 : 1);
+            return b;
+        }
+
+        // MODIFIES: this
+        // EFFECTS: reads up to len bytes into b
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int count = super.read(b, off, len);
+            advance(Math.max(count, 0));
+            return count;
+        }
+
+        // MODIFIES: this
+        // EFFECTS: counts the bytes read and reports the percentage if it has changed
+        private void advance(int count) {
+            this.read += count;
+            int percent = (int) Math.min(100, this.read * 100 / this.size);
+            if (percent != this.reported) {
+                this.reported = percent;
+                this.progress.accept(percent);
+            }
+        }
+    }
+}
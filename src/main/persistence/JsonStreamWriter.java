@@ -0,0 +1,199 @@
+package persistence;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+
+// Represents a writer that emits a JSON document token by token straight to a character
+// stream, without building the document in memory first
+public class JsonStreamWriter implements Closeable {
+    private static final int EMPTY_DOCUMENT = 0;
+    private static final int NONEMPTY_DOCUMENT = 1;
+    private static final int EMPTY_ARRAY = 2;
+    private static final int NONEMPTY_ARRAY = 3;
+    private static final int EMPTY_OBJECT = 4;
+    private static final int NONEMPTY_OBJECT = 5;
+    private static final int DANGLING_NAME = 6;
+
+    private final Writer out;
+    private final int indent;
+    private int[] stack;
+    private int stackSize;
+    private String spaces;
+
+    // EFFECTS: constructs a writer to the given stream, indenting nested values by
+    //          the given number of spaces, or writing everything on one line if 0
+    public JsonStreamWriter(Writer out, int indent) {
+        this.out = out;
+        this.indent = indent;
+        this.stack = new int[32];
+        this.stack[this.stackSize++] = EMPTY_DOCUMENT;
+        this.spaces = "        ";
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes the start of an object
+    public JsonStreamWriter beginObject() throws IOException {
+        return open(EMPTY_OBJECT, '{');
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes the end of the current object
+    public JsonStreamWriter endObject() throws IOException {
+        return close(EMPTY_OBJECT, NONEMPTY_OBJECT, '}');
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes the start of an array
+    public JsonStreamWriter beginArray() throws IOException {
+        return open(EMPTY_ARRAY, '[');
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes the end of the current array
+    public JsonStreamWriter endArray() throws IOException {
+        return close(EMPTY_ARRAY, NONEMPTY_ARRAY, ']');
+    }
+
+    // REQUIRES: writer is inside an object and the last thing written was not a name
+    // MODIFIES: this
+    // EFFECTS: writes the name of the next property in the current object
+    public JsonStreamWriter name(String name) throws IOException {
+        int scope = this.stack[this.stackSize - 1];
+        if (scope == NONEMPTY_OBJECT) {
+            this.out.write(',');
+        } else if (scope != EMPTY_OBJECT) {
+            throw new IllegalStateException("Name written outside of an object");
+        }
+        newline();
+        writeString(name);
+        this.out.write(this.indent > 0 ? ": " : ":");
+        this.stack[this.stackSize - 1] = DANGLING_NAME;
+        return this;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes a string value
+    public JsonStreamWriter value(String value) throws IOException {
+        beforeValue();
+        writeString(value);
+        return this;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes a number value
+    public JsonStreamWriter value(long value) throws IOException {
+        beforeValue();
+        this.out.write(Long.toString(value));
+        return this;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes a boolean value
+    public JsonStreamWriter value(boolean value) throws IOException {
+        beforeValue();
+        this.out.write(value ? "true" : "false");
+        return this;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: flushes everything written so far to the underlying stream
+    public void flush() throws IOException {
+        this.out.flush();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: flushes and closes the underlying stream
+    @Override
+    public void close() throws IOException {
+        this.out.close();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes the opening bracket of an object or array and enters its scope
+    private JsonStreamWriter open(int scope, char bracket) throws IOException {
+        beforeValue();
+        if (this.stackSize == this.stack.length) {
+            int[] bigger = new int[this.stackSize * 2];
+            System.arraycopy(this.stack, 0, bigger, 0, this.stackSize);
+            this.stack = bigger;
+        }
+        this.stack[this.stackSize++] = scope;
+        this.out.write(bracket);
+        return this;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes the closing bracket of an object or array and leaves its scope
+    private JsonStreamWriter close(int empty, int nonempty, char bracket) throws IOException {
+        int scope = this.stack[this.stackSize - 1];
+        if (scope != empty && scope != nonempty) {
+            throw new IllegalStateException("Nesting problem closing with " + bracket);
+        }
+        this.stackSize--;
+        if (scope == nonempty) {
+            newline();
+        }
+        this.out.write(bracket);
+        return this;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes any separator needed before a value in the current scope
+    private void beforeValue() throws IOException {
+        int scope = this.stack[this.stackSize - 1];
+        if (scope == NONEMPTY_ARRAY) {
+            this.out.write(',');
+            newline();
+        } else if (scope == EMPTY_ARRAY) {
+            this.stack[this.stackSize - 1] = NONEMPTY_ARRAY;
+            newline();
+        } else if (scope == DANGLING_NAME) {
+            this.stack[this.stackSize - 1] = NONEMPTY_OBJECT;
+        } else if (scope == EMPTY_DOCUMENT) {
+            this.stack[this.stackSize - 1] = NONEMPTY_DOCUMENT;
+        } else {
+            throw new IllegalStateException("Value written without a name or after the document");
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: starts a new line indented to the current depth, if indenting
+    private void newline() throws IOException {
+        if (this.indent > 0) {
+            int width = (this.stackSize - 1) * this.indent;
+            while (this.spaces.length() < width) {
+                this.spaces = this.spaces + this.spaces;
+            }
+            this.out.write('\n');
+            this.out.write(this.spaces, 0, width);
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes the given string quoted and escaped, copying runs of plain
+    //          characters in one go
+    private void writeString(String value) throws IOException {
+        this.out.write('"');
+        int last = 0;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\' || c < 0x20) {
+                this.out.write(value, last, i - last);
+                this.out.write(escape(c));
+                last = i + 1;
+            }
+        }
+        this.out.write(value, last, value.length() - last);
+        this.out.write('"');
+    }
+
+    // EFFECTS: returns the escape sequence for a quote, backslash or control character
+    private static String escape(char c) {
+        int simple = "\b\f\n\r\t\"\\".indexOf(c);
+        if (simple >= 0) {
+            return "\\" + "bfnrt\"\\".charAt(simple);
+        }
+        return String.format("\\u%04x", (int) c);
+    }
+}
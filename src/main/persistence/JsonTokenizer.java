@@ -0,0 +1,437 @@
+package persistence;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.regex.Pattern;
+
+// Represents a pull parser that reads a JSON document one token at a time from a
+// character stream, without building the whole document in memory
+public class JsonTokenizer implements Closeable {
+    // kinds of token the parser can be positioned at
+    public enum Token {
+        BEGIN_OBJECT, END_OBJECT, BEGIN_ARRAY, END_ARRAY, NAME, STRING, NUMBER, BOOLEAN, NULL, END_DOCUMENT
+    }
+
+    private static final int EMPTY_DOCUMENT = 0;
+    private static final int NONEMPTY_DOCUMENT = 1;
+    private static final int EMPTY_ARRAY = 2;
+    private static final int NONEMPTY_ARRAY = 3;
+    private static final int EMPTY_OBJECT = 4;
+    private static final int NONEMPTY_OBJECT = 5;
+    private static final int DANGLING_NAME = 6;
+    private static final Pattern NUMBER = Pattern.compile("-?(0|[1-9][0-9]*)(\\.[0-9]+)?([eE][+-]?[0-9]+)?");
+
+    private final Reader in;
+    private final char[] buffer;
+    private int pos;
+    private int limit;
+    private long bufferStart;
+    private long valueStart;
+    private int[] stack;
+    private int stackSize;
+    private Token peeked;
+    private final StringBuilder scratch;
+
+    // EFFECTS: constructs a tokenizer reading from the given stream
+    public JsonTokenizer(Reader in) {
+        this.in = in;
+        this.buffer = new char[8192];
+        this.stack = new int[32];
+        this.stack[this.stackSize++] = EMPTY_DOCUMENT;
+        this.scratch = new StringBuilder();
+    }
+
+    // EFFECTS: returns a tokenizer reading the elements of an array from the given stream,
+    //          which starts just after the opening bracket
+    static JsonTokenizer inArray(Reader in) {
+        JsonTokenizer tokenizer = new JsonTokenizer(in);
+        tokenizer.push(EMPTY_ARRAY);
+        return tokenizer;
+    }
+
+    // EFFECTS: returns the kind of the next token without consuming it;
+    //          throws IOException if the document is malformed
+    public Token peek() throws IOException {
+        if (this.peeked == null) {
+            this.peeked = doPeek();
+        }
+        return this.peeked;
+    }
+
+    // EFFECTS: returns true if the current array or object has another element
+    public boolean hasNext() throws IOException {
+        Token next = peek();
+        return next != Token.END_OBJECT && next != Token.END_ARRAY && next != Token.END_DOCUMENT;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: consumes the start of an object
+    public void beginObject() throws IOException {
+        expect(Token.BEGIN_OBJECT);
+        push(EMPTY_OBJECT);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: consumes the end of the current object
+    public void endObject() throws IOException {
+        expect(Token.END_OBJECT);
+        this.stackSize--;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: consumes the start of an array
+    public void beginArray() throws IOException {
+        expect(Token.BEGIN_ARRAY);
+        push(EMPTY_ARRAY);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: consumes the end of the current array
+    public void endArray() throws IOException {
+        expect(Token.END_ARRAY);
+        this.stackSize--;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: consumes and returns the next property name
+    public String nextName() throws IOException {
+        expect(Token.NAME);
+        return readString();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: consumes and returns the next string value
+    public String nextString() throws IOException {
+        expect(Token.STRING);
+        return readString();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: consumes and returns the next number value as a long
+    public long nextLong() throws IOException {
+        expect(Token.NUMBER);
+        String literal = readLiteral();
+        try {
+            return Long.parseLong(literal);
+        } catch (NumberFormatException e) {
+            if (!NUMBER.matcher(literal).matches()) {
+                throw syntaxError("Invalid number " + literal);
+            }
+            return (long) Double.parseDouble(literal);
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: consumes and returns the next number value as an int
+    public int nextInt() throws IOException {
+        return (int) nextLong();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: consumes and returns the next boolean value
+    public boolean nextBoolean() throws IOException {
+        expect(Token.BOOLEAN);
+        String literal = readLiteral();
+        if (!literal.equals("true") && !literal.equals("false")) {
+            throw syntaxError("Invalid literal " + literal);
+        }
+        return literal.equals("true");
+    }
+
+    // MODIFIES: this
+    // EFFECTS: consumes the next value, including everything nested inside it
+    public void skipValue() throws IOException {
+        int depth = 0;
+        do {
+            Token next = peek();
+            if (next == Token.BEGIN_OBJECT) {
+                beginObject();
+                depth++;
+            } else if (next == Token.BEGIN_ARRAY) {
+                beginArray();
+                depth++;
+            } else if (next == Token.END_OBJECT) {
+                endObject();
+                depth--;
+            } else if (next == Token.END_ARRAY) {
+                endArray();
+                depth--;
+            } else {
+                skipScalar(next);
+            }
+        } while (depth > 0);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: consumes the next value without decoding anything nested inside it, only
+    //          matching up its brackets and skipping over its strings
+    public void skipRawValue() throws IOException {
+        Token next = peek();
+        if (next != Token.BEGIN_OBJECT && next != Token.BEGIN_ARRAY) {
+            skipScalar(next);
+            return;
+        }
+        expect(next);
+        int depth = 1;
+        while (depth > 0) {
+            int c = read();
+            if (c == '"') {
+                skipRawString();
+            } else if (c == '{' || c == '[') {
+                depth++;
+            } else if (c == '}' || c == ']') {
+                depth--;
+            } else if (c == -1) {
+                throw syntaxError("Unexpected end of document");
+            }
+        }
+    }
+
+    // EFFECTS: returns the number of characters consumed from the stream so far
+    public long position() {
+        return this.bufferStart + this.pos;
+    }
+
+    // REQUIRES: the token peeked is a value
+    // EFFECTS: returns the position in the stream of the first character of the peeked value
+    public long valueStart() {
+        return this.valueStart;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: closes the underlying stream
+    @Override
+    public void close() throws IOException {
+        this.in.close();
+    }
+
+    // MODIFIES: this
+    // EFFECTS: consumes a name, string, number, boolean or null token
+    private void skipScalar(Token next) throws IOException {
+        if (next == Token.NAME || next == Token.STRING) {
+            expect(next);
+            readString();
+        } else if (next == Token.END_DOCUMENT) {
+            throw syntaxError("Unexpected end of document");
+        } else if (next == Token.NUMBER) {
+            nextLong();
+        } else if (next == Token.BOOLEAN) {
+            nextBoolean();
+        } else {
+            expect(next);
+            if (!readLiteral().equals("null")) {
+                throw syntaxError("Invalid literal");
+            }
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: works out the next token from the current scope, consuming any separators
+    private Token doPeek() throws IOException {
+        int scope = this.stack[this.stackSize - 1];
+        if (scope == EMPTY_ARRAY || scope == NONEMPTY_ARRAY) {
+            return peekInArray(scope);
+        } else if (scope == EMPTY_OBJECT || scope == NONEMPTY_OBJECT) {
+            return peekInObject(scope);
+        } else if (scope == DANGLING_NAME) {
+            if (nextNonWhitespace() != ':') {
+                throw syntaxError("Expected ':'");
+            }
+            this.stack[this.stackSize - 1] = NONEMPTY_OBJECT;
+            return valueToken(nextNonWhitespace());
+        } else if (scope == EMPTY_DOCUMENT) {
+            this.stack[this.stackSize - 1] = NONEMPTY_DOCUMENT;
+            return valueToken(nextNonWhitespace());
+        }
+        if (nextNonWhitespace() != -1) {
+            throw syntaxError("Expected end of document");
+        }
+        return Token.END_DOCUMENT;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: works out the next token inside an array
+    private Token peekInArray(int scope) throws IOException {
+        int c = nextNonWhitespace();
+        if (c == ']') {
+            return Token.END_ARRAY;
+        }
+        if (scope == NONEMPTY_ARRAY) {
+            if (c != ',') {
+                throw syntaxError("Expected ',' or ']'");
+            }
+            c = nextNonWhitespace();
+        }
+        this.stack[this.stackSize - 1] = NONEMPTY_ARRAY;
+        return valueToken(c);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: works out the next token inside an object
+    private Token peekInObject(int scope) throws IOException {
+        int c = nextNonWhitespace();
+        if (c == '}') {
+            return Token.END_OBJECT;
+        }
+        if (scope == NONEMPTY_OBJECT) {
+            if (c != ',') {
+                throw syntaxError("Expected ',' or '}'");
+            }
+            c = nextNonWhitespace();
+        }
+        if (c != '"') {
+            throw syntaxError("Expected name");
+        }
+        this.stack[this.stackSize - 1] = DANGLING_NAME;
+        return Token.NAME;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns the token starting with character c; literals are left unread
+    private Token valueToken(int c) throws IOException {
+        this.valueStart = position() - 1;
+        switch (c) {
+            case '{':
+                return Token.BEGIN_OBJECT;
+            case '[':
+                return Token.BEGIN_ARRAY;
+            case '"':
+                return Token.STRING;
+            case 't':
+            case 'f':
+                this.pos--;
+                return Token.BOOLEAN;
+            case 'n':
+                this.pos--;
+                return Token.NULL;
+            default:
+                if (c == '-' || (c >= '0' && c <= '9')) {
+                    this.pos--;
+                    return Token.NUMBER;
+                }
+                throw syntaxError("Unexpected character");
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: consumes the peeked token, throws IOException if it is not the expected kind
+    private void expect(Token expected) throws IOException {
+        Token next = peek();
+        if (next != expected) {
+            throw syntaxError("Expected " + expected + " but was " + next);
+        }
+        this.peeked = null;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: adds a scope to the stack, growing it if needed
+    private void push(int scope) {
+        if (this.stackSize == this.stack.length) {
+            int[] bigger = new int[this.stackSize * 2];
+            System.arraycopy(this.stack, 0, bigger, 0, this.stackSize);
+            this.stack = bigger;
+        }
+        this.stack[this.stackSize++] = scope;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: reads the rest of a string whose opening quote has been consumed
+    private String readString() throws IOException {
+        this.scratch.setLength(0);
+        while (true) {
+            int c = read();
+            if (c == '"') {
+                return this.scratch.toString();
+            } else if (c == '\\') {
+                this.scratch.append(readEscape());
+            } else if (c == -1) {
+                throw syntaxError("Unterminated string");
+            } else {
+                this.scratch.append((char) c);
+            }
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: consumes the rest of a string whose opening quote has been consumed, without
+    //          decoding it
+    private void skipRawString() throws IOException {
+        int c = read();
+        while (c != '"') {
+            if (c == '\\') {
+                c = read();
+            }
+            if (c == -1) {
+                throw syntaxError("Unterminated string");
+            }
+            c = read();
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: reads an escape sequence whose backslash has been consumed
+    private char readEscape() throws IOException {
+        int c = read();
+        int simple = "bfnrt".indexOf(c);
+        if (simple >= 0) {
+            return "\b\f\n\r\t".charAt(simple);
+        } else if (c == 'u') {
+            char[] hex = {(char) read(), (char) read(), (char) read(), (char) read()};
+            try {
+                return (char) Integer.parseInt(new String(hex), 16);
+            } catch (NumberFormatException e) {
+                throw syntaxError("Invalid unicode escape");
+            }
+        } else if (c == -1) {
+            throw syntaxError("Unterminated escape");
+        }
+        return (char) c;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: reads a number, boolean or null up to the next separator
+    private String readLiteral() throws IOException {
+        this.scratch.setLength(0);
+        while (true) {
+            int c = read();
+            if (c == -1 || c == ',' || c == '}' || c == ']' || c == ':' || Character.isWhitespace(c)) {
+                if (c != -1) {
+                    this.pos--;
+                }
+                return this.scratch.toString();
+            }
+            this.scratch.append((char) c);
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns the next character that is not whitespace, or -1 at the end of the stream
+    private int nextNonWhitespace() throws IOException {
+        int c = read();
+        while (c != -1 && Character.isWhitespace(c)) {
+            c = read();
+        }
+        return c;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: returns the next character, or -1 at the end of the stream
+    private int read() throws IOException {
+        if (this.pos == this.limit) {
+            this.bufferStart += this.limit;
+            this.limit = this.in.read(this.buffer, 0, this.buffer.length);
+            this.pos = 0;
+            if (this.limit <= 0) {
+                this.limit = 0;
+                return -1;
+            }
+        }
+        return this.buffer[this.pos++];
+    }
+
+    // EFFECTS: returns an exception describing malformed JSON
+    private IOException syntaxError(String message) {
+        return new IOException("Malformed JSON: " + message);
+    }
+}
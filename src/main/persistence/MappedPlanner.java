@@ -0,0 +1,140 @@
+package persistence;
+
+import model.*;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.AbstractList;
+import java.util.Calendar;
+import java.util.List;
+
+// Represents a read-only view of a planner saved by BinarySaver, with the file mapped into
+// memory rather than read onto the heap. Opening only finds where each record starts; an
+// appointment, task, or tracker is decoded each time it is fetched from one of the views,
+// so only the records actually touched create any objects. Records are found by int offsets
+// into a single mapping, so a file must be under 2 GB to be opened this way.
+public class MappedPlanner {
+    // decodes one record of a section
+    private interface RecordDecoder<T> {
+        T decode(BinaryReader in) throws IOException;
+    }
+
+    private final ByteBuffer buffer;
+    private final int[] appointmentOffsets;
+    private final int[] taskOffsets;
+    private final int[] trackerOffsets;
+
+    // EFFECTS: maps the binary planner at given filename and indexes its records;
+    //          throws IOException if it cannot be mapped, is 2 GB or larger, or is malformed
+    public MappedPlanner(String fileName) throws IOException {
+        try (FileChannel channel = FileChannel.open(Paths.get(fileName), StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("Planner file too large to map: " + fileName);
+            }
+            this.buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        BinaryReader in = new BinaryReader(this.buffer.duplicate());
+        BinaryFormat.readHeader(in);
+        this.appointmentOffsets = indexSection(in);
+        this.taskOffsets = indexSection(in);
+        this.trackerOffsets = indexSection(in);
+    }
+
+    // EFFECTS: returns a read-only view of the appointments in chronological order, decoding
+    //          each appointment when it is fetched
+    public List<Appointment> getAppointments() {
+        return new Section<>(this.appointmentOffsets, BinaryFormat::readAppointment);
+    }
+
+    // EFFECTS: returns a read-only view of the tasks in chronological order, decoding each
+    //          task when it is fetched
+    public List<Task> getTasks() {
+        return new Section<>(this.taskOffsets, in -> BinaryFormat.readTask(in, Calendar.getInstance()));
+    }
+
+    // EFFECTS: returns a read-only view of the habit trackers, decoding each tracker with
+    //          only its number of completions and latest completion when it is fetched, and the
+    //          rest of its history the first time the tracker needs it
+    public List<Tracker> getTrackers() {
+        return new Section<>(this.trackerOffsets, BinaryFormat::readLazyTracker);
+    }
+
+    // REQUIRES: 0 <= index < getTrackers().size()
+    // EFFECTS: returns the name of the tracker at given index without decoding its history
+    public String getTrackerName(int index) {
+        try {
+            return readerAt(this.trackerOffsets[index]).readString();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // REQUIRES: 0 <= index < getTrackers().size()
+    // EFFECTS: returns how many times the tracker at given index was completed without
+    //          decoding its history
+    public int getTrackerLength(int index) {
+        try {
+            BinaryReader in = readerAt(this.trackerOffsets[index]);
+            int nameLength = in.readLength();
+            in.seek(in.position() + nameLength);
+            return in.readLength();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // MODIFIES: in
+    // EFFECTS: returns where each record of the next section starts, skipping over them
+    private int[] indexSection(BinaryReader in) throws IOException {
+        int count = in.readLength();
+        if (count > in.remaining()) {
+            throw new IOException("Malformed planner file: too many records");
+        }
+        int[] offsets = new int[count];
+        for (int i = 0; i < count; i++) {
+            int end = BinaryLoader.recordEnd(in);
+            offsets[i] = in.position();
+            in.seek(end);
+        }
+        return offsets;
+    }
+
+    // EFFECTS: returns a reader positioned at the given offset in the file
+    private BinaryReader readerAt(int offset) {
+        ByteBuffer view = this.buffer.duplicate();
+        view.position(offset);
+        return new BinaryReader(view);
+    }
+
+    // represents a read-only view of one section of the file
+    private class Section<T> extends AbstractList<T> {
+        private final int[] offsets;
+        private final RecordDecoder<T> decoder;
+
+        // EFFECTS: constructs a view of the records at the given offsets
+        Section(int[] offsets, RecordDecoder<T> decoder) {
+            this.offsets = offsets;
+            this.decoder = decoder;
+        }
+
+        // EFFECTS: decodes and returns the record at given index;
+        //          throws UncheckedIOException if the record is malformed
+        @Override
+        public T get(int index) {
+            try {
+                return this.decoder.decode(readerAt(this.offsets[index]));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public int size() {
+            return this.offsets.length;
+        }
+    }
+}
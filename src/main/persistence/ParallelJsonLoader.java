@@ -0,0 +1,308 @@
+package persistence;
+
+import model.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.IntConsumer;
+
+// Represents a loader that reads a saved schedule in the same format as JsonLoader using
+// every core: one pass finds where each appointment, task and tracker starts and ends in
+// the file, then runs of them are decoded, sorted and built concurrently on a fork-join pool
+// before being added to the planner at once.
+//
+// The whole file is held in memory as bytes while it is loaded. The first pass reads those
+// bytes as ISO-8859-1, which is safe because every byte of a multi-byte UTF-8 character is
+// outside ASCII and so never mistaken for JSON punctuation, and its positions are then byte
+// offsets; each run is decoded as UTF-8 straight from its bytes. A file too large to hold
+// in memory comfortably, or in an int offset, is streamed by JsonStreamLoader instead, as
+// it is when the pool has only one thread to decode on.
+public class ParallelJsonLoader {
+    private static final int MIN_SPLIT_BYTES = 1 << 16;
+    private static final long MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+    private static final int HEAP_SHARE = 4;
+
+    private String fileName;
+    private boolean lazyHistories;
+    private ForkJoinPool pool;
+    private IntConsumer progress;
+    private String snapshotId;
+    private long decoded;
+    private long size;
+    private int reported;
+
+    // EFFECTS: constructs loader in reference to given filename, decoding on the common pool
+    public ParallelJsonLoader(String fileName) {
+        this(fileName, false, ForkJoinPool.commonPool());
+    }
+
+    // EFFECTS: constructs loader in reference to given filename, decoding on the given pool;
+    //          lazyHistories is as for JsonStreamLoader
+    public ParallelJsonLoader(String fileName, boolean lazyHistories, ForkJoinPool pool) {
+        this.fileName = fileName;
+        this.lazyHistories = lazyHistories;
+        this.pool = pool;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: sets a listener told the percentage of the file decoded so far while loading,
+    //          on whichever thread decoded it
+    public void setProgressListener(IntConsumer progress) {
+        this.progress = progress;
+    }
+
+    // EFFECTS: returns the id the last file loaded was saved under as a journal snapshot, or
+    //          null if it has none
+    public String getSnapshotId() {
+        return this.snapshotId;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: loads the whole saved planner from this file;
+    //          throws IOException if an error occurs loading or the file is malformed
+    public Planner loadAll() throws IOException {
+        this.size = Files.size(Paths.get(this.fileName));
+        if (this.pool.getParallelism() < 2 || this.size > maxParallelSize()) {
+            return loadStreaming();
+        }
+        List<ForkJoinTask<List<Appointment>>> appointments = new ArrayList<>();
+        List<ForkJoinTask<List<Task>>> tasks = new ArrayList<>();
+        List<ForkJoinTask<List<Tracker>>> trackers = new ArrayList<>();
+        split(Files.readAllBytes(Paths.get(this.fileName)), appointments, tasks, trackers);
+        Planner planner = new Planner();
+        planner.getAppointments().addAll(join(appointments));
+        planner.getTasks().addAll(join(tasks));
+        for (Tracker tracker : join(trackers)) {
+            planner.getHabits().addTracker(tracker);
+        }
+        return planner;
+    }
+
+    // EFFECTS: returns the size of the largest file loaded in parallel: one a quarter of the
+    //          heap at most, whose offsets fit in an int
+    private static long maxParallelSize() {
+        return Math.min(MAX_ARRAY_SIZE, Runtime.getRuntime().maxMemory() / HEAP_SHARE);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: loads the whole saved planner from this file one element after another
+    private Planner loadStreaming() throws IOException {
+        JsonStreamLoader loader = new JsonStreamLoader(this.fileName, this.lazyHistories);
+        loader.setProgressListener(this.progress);
+        Planner planner = loader.loadAll();
+        this.snapshotId = loader.getSnapshotId();
+        return planner;
+    }
+
+    // MODIFIES: this, appointments, tasks, trackers
+    // EFFECTS: reads through the whole file, starting a task on the pool to decode each of the
+    //          saved sections
+    private void split(byte[] text, List<ForkJoinTask<List<Appointment>>> appointments,
+                       List<ForkJoinTask<List<Task>>> tasks, List<ForkJoinTask<List<Tracker>>> trackers)
+            throws IOException {
+        this.snapshotId = null;
+        this.decoded = 0;
+        this.reported = -1;
+        try (JsonTokenizer reader = new JsonTokenizer(new InputStreamReader(new ByteArrayInputStream(text),
+                StandardCharsets.ISO_8859_1))) {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                splitTopLevel(reader, reader.nextName(), text, appointments, tasks, trackers);
+            }
+            reader.endObject();
+        }
+    }
+
+    // MODIFIES: this, appointments, tasks, trackers
+    // EFFECTS: reads the value of the given top-level name, splitting up the saved sections
+    private void splitTopLevel(JsonTokenizer reader, String name, byte[] text,
+                               List<ForkJoinTask<List<Appointment>>> appointments, List<ForkJoinTask<List<Task>>> tasks,
+                               List<ForkJoinTask<List<Tracker>>> trackers) throws IOException {
+        if (name.equals("saved schedule")) {
+            splitSchedule(reader, text, appointments, tasks, trackers);
+        } else if (name.equals("snapshot id")) {
+            this.snapshotId = reader.nextString();
+        } else {
+            reader.skipValue();
+        }
+    }
+
+    // MODIFIES: appointments, tasks, trackers
+    // EFFECTS: reads through the array of saved sections, starting a task on the pool to
+    //          decode each of them
+    private void splitSchedule(JsonTokenizer reader, byte[] text, List<ForkJoinTask<List<Appointment>>> appointments,
+                               List<ForkJoinTask<List<Task>>> tasks, List<ForkJoinTask<List<Tracker>>> trackers)
+            throws IOException {
+        reader.beginArray();
+        while (reader.hasNext()) {
+            reader.beginObject();
+            while (reader.hasNext()) {
+                String name = reader.nextName();
+                if (name.equals("appointments")) {
+                    appointments.add(this.pool.submit(new DecodeTask<>(text, elements(reader),
+                            JsonStreamLoader::readAppointment, Comparator.naturalOrder())));
+                } else if (name.equals("tasks")) {
+                    tasks.add(this.pool.submit(new DecodeTask<>(text, elements(reader),
+                            JsonStreamLoader::readTask, Comparator.naturalOrder())));
+                } else if (name.equals("habit trackers")) {
+                    trackers.add(this.pool.submit(new DecodeTask<>(text, elements(reader),
+                            JsonStreamLoader::readTracker, null)));
+                } else {
+                    reader.skipValue();
+                }
+            }
+            reader.endObject();
+        }
+        reader.endArray();
+    }
+
+    // EFFECTS: reads through an array without decoding its elements, returning where each
+    //          element starts and ends in the file as {start0, end0, start1, end1, ...}
+    private int[] elements(JsonTokenizer reader) throws IOException {
+        int[] bounds = new int[64];
+        int size = 0;
+        reader.beginArray();
+        while (reader.hasNext()) {
+            if (size == bounds.length) {
+                bounds = Arrays.copyOf(bounds, size * 2);
+            }
+            bounds[size++] = (int) reader.valueStart();
+            reader.skipRawValue();
+            bounds[size++] = (int) reader.position();
+        }
+        reader.endArray();
+        return Arrays.copyOf(bounds, size);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: counts the given number of bytes as decoded and tells the listener the
+    //          percentage of the file decoded if it has grown
+    private synchronized void advance(int bytes) {
+        this.decoded += bytes;
+        int percent = (int) Math.min(100, this.decoded * 100 / Math.max(this.size, 1));
+        if (this.progress != null && percent > this.reported) {
+            this.reported = percent;
+            this.progress.accept(percent);
+        }
+    }
+
+    // EFFECTS: waits for the given tasks and returns everything they decoded, in order;
+    //          throws IOException if any of them found the file malformed
+    private static <T> List<T> join(List<ForkJoinTask<List<T>>> sections) throws IOException {
+        List<T> result = new ArrayList<>();
+        try {
+            for (ForkJoinTask<List<T>> section : sections) {
+                result.addAll(section.join());
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return result;
+    }
+
+    // represents a way of reading one element of a section
+    private interface ElementReader<T> {
+        // EFFECTS: reads a single element using the given loader's decoding
+        T read(JsonStreamLoader loader, JsonTokenizer reader) throws IOException;
+    }
+
+    // represents the decoding of a run of the elements of a section, split in half and decoded
+    // in parallel while the run is large, then put back together sorted if a comparator is given
+    private class DecodeTask<T> extends RecursiveTask<List<T>> {
+        private static final long serialVersionUID = 1L;
+
+        private final byte[] text;
+        private final int[] bounds;
+        private final int from;
+        private final int to;
+        private final ElementReader<T> elementReader;
+        private final Comparator<T> order;
+
+        // EFFECTS: constructs a task decoding every element with the given bounds
+        DecodeTask(byte[] text, int[] bounds, ElementReader<T> elementReader, Comparator<T> order) {
+            this(text, bounds, 0, bounds.length / 2, elementReader, order);
+        }
+
+        // EFFECTS: constructs a task decoding elements from (inclusive) to to (exclusive)
+        DecodeTask(byte[] text, int[] bounds, int from, int to, ElementReader<T> elementReader,
+                   Comparator<T> order) {
+            this.text = text;
+            this.bounds = bounds;
+            this.from = from;
+            this.to = to;
+            this.elementReader = elementReader;
+            this.order = order;
+        }
+
+        // EFFECTS: decodes the run, throwing UncheckedIOException if it is malformed
+        @Override
+        protected List<T> compute() {
+            int bytes = this.to > this.from ? this.bounds[2 * this.to - 1] - this.bounds[2 * this.from] : 0;
+            if (this.to - this.from < 2 || bytes <= MIN_SPLIT_BYTES) {
+                return decode();
+            }
+            int mid = (this.from + this.to) >>> 1;
+            DecodeTask<T> right = new DecodeTask<>(this.text, this.bounds, mid, this.to, this.elementReader,
+                    this.order);
+            right.fork();
+            List<T> left = new DecodeTask<>(this.text, this.bounds, this.from, mid, this.elementReader,
+                    this.order).compute();
+            return combine(left, right.join());
+        }
+
+        // EFFECTS: decodes every element of the run one after another
+        private List<T> decode() {
+            JsonStreamLoader loader = new JsonStreamLoader(fileName, lazyHistories);
+            List<T> result = new ArrayList<>(this.to - this.from);
+            if (this.to == this.from) {
+                return result;
+            }
+            int start = this.bounds[2 * this.from];
+            int length = this.bounds[2 * this.to - 1] - start;
+            JsonTokenizer reader = JsonTokenizer.inArray(new InputStreamReader(
+                    new ByteArrayInputStream(this.text, start, length), StandardCharsets.UTF_8));
+            try {
+                for (int i = this.from; i < this.to; i++) {
+                    result.add(this.elementReader.read(loader, reader));
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            advance(length);
+            if (this.order != null) {
+                result.sort(this.order);
+            }
+            return result;
+        }
+
+        // EFFECTS: returns the elements of left followed by those of right, merged in order if
+        //          this task sorts
+        private List<T> combine(List<T> left, List<T> right) {
+            List<T> result = new ArrayList<>(left.size() + right.size());
+            int i = 0;
+            int j = 0;
+            while (this.order != null && i < left.size() && j < right.size()) {
+                if (this.order.compare(right.get(j), left.get(i)) < 0) {
+                    result.add(right.get(j++));
+                } else {
+                    result.add(left.get(i++));
+                }
+            }
+            result.addAll(left.subList(i, left.size()));
+            result.addAll(right.subList(j, right.size()));
+            return result;
+        }
+    }
+}
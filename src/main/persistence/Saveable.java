@@ -2,8 +2,14 @@ package persistence;
 
 import org.json.JSONObject;
 
+import java.io.IOException;
+
 // interface for classes which can be saved
 public interface Saveable {
     // returns this item as JSON object
     JSONObject toJson();
+
+    // writes this item straight to the given JSON writer, in the same layout as toJson;
+    // throws IOException if the writer fails
+    void write(JsonStreamWriter writer) throws IOException;
 }
@@ -0,0 +1,44 @@
+package persistence;
+
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.util.List;
+
+// Represents a copy of the items of one section of a planner, taken on the thread that changes
+// the planner so that the section can be written out on another thread as it was when copied
+class SectionCopy implements Saveable {
+    private final String name;
+    private final List<Saveable> items;
+
+    // REQUIRES: items are not changed after being copied
+    // EFFECTS: constructs a copy of the section with the given name holding the given items
+    SectionCopy(String name, List<Saveable> items) {
+        this.name = name;
+        this.items = items;
+    }
+
+    // EFFECTS: returns this as a JSON object, in the same layout as the section copied
+    @Override
+    public JSONObject toJson() {
+        JSONArray arr = new JSONArray();
+        for (Saveable item : this.items) {
+            arr.put(item.toJson());
+        }
+
+        JSONObject obj = new JSONObject();
+        obj.put(this.name, arr);
+        return obj;
+    }
+
+    // EFFECTS: writes this section to the given JSON writer
+    @Override
+    public void write(JsonStreamWriter writer) throws IOException {
+        writer.beginObject().name(this.name).beginArray();
+        for (Saveable item : this.items) {
+            item.write(writer);
+        }
+        writer.endArray().endObject();
+    }
+}
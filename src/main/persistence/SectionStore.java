@@ -0,0 +1,78 @@
+package persistence;
+
+import model.Planner;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+// Represents a planner saved as one JSON file per section in a directory, so that saving
+// rewrites only the sections that have changed since they were last loaded or saved
+public class SectionStore {
+    private static final String APPOINTMENTS_FILE = "appointments.json";
+    private static final String TASKS_FILE = "tasks.json";
+    private static final String HABITS_FILE = "habits.json";
+
+    private String directory;
+
+    // EFFECTS: constructs a store of section files in given directory
+    public SectionStore(String directory) {
+        this.directory = directory;
+    }
+
+    // EFFECTS: loads the planner from the section files, treating a missing file as an empty
+    //          section, and marks every section clean;
+    //          throws IOException if an error occurs loading or a file is malformed
+    public Planner load() throws IOException {
+        Planner planner = new Planner();
+        for (String file : new String[] {APPOINTMENTS_FILE, TASKS_FILE, HABITS_FILE}) {
+            Path path = Paths.get(directory, file);
+            if (Files.exists(path)) {
+                new JsonStreamLoader(path.toString()).loadSectionsInto(planner);
+            }
+        }
+        planner.getAppointments().markClean();
+        planner.getTasks().markClean();
+        planner.getHabits().markClean();
+        return planner;
+    }
+
+    // MODIFIES: planner
+    // EFFECTS: atomically rewrites the file of each section of planner that is dirty or has
+    //          never been saved, marks it clean, and returns how many sections were written;
+    //          throws IOException if an error occurs writing
+    public int save(Planner planner) throws IOException {
+        Files.createDirectories(Paths.get(directory));
+        int written = 0;
+        if (planner.getAppointments().isDirty() || !exists(APPOINTMENTS_FILE)) {
+            write(APPOINTMENTS_FILE, planner.getAppointments());
+            planner.getAppointments().markClean();
+            written++;
+        }
+        if (planner.getTasks().isDirty() || !exists(TASKS_FILE)) {
+            write(TASKS_FILE, planner.getTasks());
+            planner.getTasks().markClean();
+            written++;
+        }
+        if (planner.getHabits().isDirty() || !exists(HABITS_FILE)) {
+            write(HABITS_FILE, planner.getHabits());
+            planner.getHabits().markClean();
+            written++;
+        }
+        return written;
+    }
+
+    // EFFECTS: returns true if the given section file exists
+    private boolean exists(String file) {
+        return Files.exists(Paths.get(directory, file));
+    }
+
+    // EFFECTS: atomically writes section to the given section file
+    private void write(String file, Saveable section) throws IOException {
+        JsonSaver saver = new JsonSaver(Paths.get(directory, file).toString(), true, 0);
+        saver.open();
+        saver.saveSection(section);
+        saver.close();
+    }
+}
@@ -0,0 +1,33 @@
+package persistence;
+
+import model.Planner;
+
+import java.io.IOException;
+
+// Represents conversions of a saved planner between the JSON and binary formats
+public final class SnapshotConverter {
+
+    // EFFECTS: not meant to be constructed
+    private SnapshotConverter() {
+    }
+
+    // EFFECTS: converts the JSON planner at jsonFile to the binary planner at binaryFile;
+    //          throws IOException if an error occurs reading or writing
+    public static void jsonToBinary(String jsonFile, String binaryFile) throws IOException {
+        Planner planner = new JsonStreamLoader(jsonFile).loadAll();
+        BinarySaver saver = new BinarySaver(binaryFile);
+        saver.open();
+        saver.save(planner.getAppointments(), planner.getTasks(), planner.getHabits());
+        saver.close();
+    }
+
+    // EFFECTS: converts the binary planner at binaryFile to the JSON planner at jsonFile;
+    //          throws IOException if an error occurs reading or writing
+    public static void binaryToJson(String binaryFile, String jsonFile) throws IOException {
+        Planner planner = new BinaryLoader(binaryFile).loadAll();
+        JsonSaver saver = new JsonSaver(jsonFile, true);
+        saver.open();
+        saver.save(planner.getAppointments(), planner.getTasks(), planner.getHabits());
+        saver.close();
+    }
+}
@@ -0,0 +1,41 @@
+package ui;
+
+import model.Appointment;
+
+import javax.swing.*;
+import java.awt.*;
+import java.text.SimpleDateFormat;
+
+// renders an appointment in a list as its name followed by when it takes place
+public class AppointmentCellRenderer extends DefaultListCellRenderer {
+    private static final long serialVersionUID = 1L;
+
+    private final SimpleDateFormat dateFormat;
+    private final SimpleDateFormat timeFormat;
+
+    // EFFECTS: constructs a renderer showing dates and times with the given patterns
+    public AppointmentCellRenderer(String datePattern, String timePattern) {
+        this.dateFormat = new SimpleDateFormat(datePattern);
+        this.timeFormat = new SimpleDateFormat(timePattern);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: sets up this label to show the given appointment
+    @Override
+    public Component getListCellRendererComponent(JList<?> list, Object value, int index, boolean isSelected,
+                                                  boolean cellHasFocus) {
+        super.getListCellRendererComponent(list, value, index, isSelected, cellHasFocus);
+        Appointment appointment = (Appointment) value;
+        String startDate = this.dateFormat.format(appointment.getStartTime().getTime());
+        String endDate = this.dateFormat.format(appointment.getEndTime().getTime());
+        String startTime = this.timeFormat.format(appointment.getStartTime().getTime());
+        String endTime = this.timeFormat.format(appointment.getEndTime().getTime());
+        if (startDate.equals(endDate)) {
+            setText(appointment.getName() + " - " + startDate + " from " + startTime + " to " + endTime);
+        } else {
+            setText(appointment.getName() + " - " + startDate + " " + startTime + " to " + endDate + " " + endTime);
+        }
+        setToolTipText(appointment.getDescription().isEmpty() ? null : appointment.getDescription());
+        return this;
+    }
+}
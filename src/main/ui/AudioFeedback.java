@@ -0,0 +1,63 @@
+package ui;
+
+import javax.sound.sampled.*;
+import java.awt.*;
+import java.io.File;
+import java.io.IOException;
+
+// plays a short sound as feedback, decoding it once and replaying the same open clip every
+// time, or does nothing if there is no sound to play or nothing to play it on
+public class AudioFeedback {
+    private Clip clip;
+
+    // EFFECTS: loads the sound in the given file into a clip ready to play; does nothing if
+    //          running headless, and reports the error and does nothing if the sound cannot
+    //          be loaded or there is no audio line to play it on
+    public AudioFeedback(String fileName) {
+        if (GraphicsEnvironment.isHeadless()) {
+            return;
+        }
+        try (AudioInputStream audioInput = AudioSystem.getAudioInputStream(new File(fileName))) {
+            Clip loaded = AudioSystem.getClip();
+            loaded.open(audioInput);
+            this.clip = loaded;
+        } catch (IOException | LineUnavailableException | UnsupportedAudioFileException | IllegalArgumentException e) {
+            e.printStackTrace();
+            System.out.println("Exception encountered while loading sound.");
+        }
+    }
+
+    // EFFECTS: constructs feedback that never plays anything
+    private AudioFeedback() {
+    }
+
+    // EFFECTS: returns feedback that never plays anything
+    public static AudioFeedback silent() {
+        return new AudioFeedback();
+    }
+
+    // EFFECTS: returns true if this plays a sound
+    public synchronized boolean isEnabled() {
+        return this.clip != null;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: starts playing the sound from its beginning, cutting off any earlier play still
+    //          going, and returns without waiting for it to finish
+    public synchronized void play() {
+        if (this.clip != null) {
+            this.clip.stop();
+            this.clip.setFramePosition(0);
+            this.clip.start();
+        }
+    }
+
+    // MODIFIES: this
+    // EFFECTS: releases the audio line, after which nothing is played
+    public synchronized void close() {
+        if (this.clip != null) {
+            this.clip.close();
+            this.clip = null;
+        }
+    }
+}
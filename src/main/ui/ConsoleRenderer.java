@@ -0,0 +1,71 @@
+package ui;
+
+import java.io.PrintStream;
+import java.util.function.BooleanSupplier;
+
+// collects the lines of a listing for the console in one buffer and writes them out in a
+// single write and flush, a page at a time if the listing is long and someone is reading it
+public class ConsoleRenderer {
+    public static final int PAGE_LINES = 40;
+
+    private final PrintStream out;
+    private final int pageLines;
+    private final StringBuilder buffer;
+
+    // EFFECTS: constructs a renderer writing to out, in pages of the given number of lines,
+    //          or all at once if pageLines is 0
+    public ConsoleRenderer(PrintStream out, int pageLines) {
+        this.out = out;
+        this.pageLines = pageLines;
+        this.buffer = new StringBuilder();
+    }
+
+    // EFFECTS: returns a renderer writing to standard output, paging only if it is an
+    //          interactive console rather than a file or pipe
+    public static ConsoleRenderer forStandardOutput() {
+        return new ConsoleRenderer(System.out, System.console() != null ? PAGE_LINES : 0);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: adds a line to the listing
+    public ConsoleRenderer line(String text) {
+        this.buffer.append(text).append('\n');
+        return this;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes the whole listing out without stopping, and starts a new listing
+    public void flush() {
+        flush(() -> true);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: writes the listing out a page at a time, asking more after each full page with
+    //          more of the listing to come whether to go on, then starts a new listing
+    public void flush(BooleanSupplier more) {
+        int start = 0;
+        while (start < this.buffer.length()) {
+            int end = pageEnd(start);
+            this.out.append(this.buffer, start, end);
+            this.out.flush();
+            start = end;
+            if (start < this.buffer.length() && !more.getAsBoolean()) {
+                break;
+            }
+        }
+        this.buffer.setLength(0);
+    }
+
+    // EFFECTS: returns the end of the page starting at start in the buffer
+    private int pageEnd(int start) {
+        if (this.pageLines <= 0) {
+            return this.buffer.length();
+        }
+        int end = start;
+        for (int lines = 0; lines < this.pageLines && end < this.buffer.length(); lines++) {
+            int newline = this.buffer.indexOf("\n", end);
+            end = newline < 0 ? this.buffer.length() : newline + 1;
+        }
+        return end;
+    }
+}
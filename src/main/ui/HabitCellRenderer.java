@@ -0,0 +1,40 @@
+package ui;
+
+import model.Tracker;
+
+import javax.swing.*;
+import java.awt.*;
+import java.text.SimpleDateFormat;
+
+// renders a habit tracker in a list as a check box ticked if the habit was done today,
+// labelled with its name and the time it was done
+public class HabitCellRenderer extends JCheckBox implements ListCellRenderer<Tracker> {
+    private static final long serialVersionUID = 1L;
+
+    private final SimpleDateFormat timeFormat;
+
+    // EFFECTS: constructs a renderer showing the time a habit was done with the given pattern
+    public HabitCellRenderer(String timePattern) {
+        this.timeFormat = new SimpleDateFormat(timePattern);
+        setOpaque(true);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: sets up this check box to show the given habit tracker
+    @Override
+    public Component getListCellRendererComponent(JList<? extends Tracker> list, Tracker tracker, int index,
+                                                  boolean isSelected, boolean cellHasFocus) {
+        boolean done = tracker.isDoneToday();
+        setSelected(done);
+        if (done) {
+            setText(tracker.getName() + " - done at " + this.timeFormat.format(tracker.getLastElement().getTime()));
+        } else {
+            setText(tracker.getName());
+        }
+        setBackground(isSelected ? list.getSelectionBackground() : list.getBackground());
+        setForeground(isSelected ? list.getSelectionForeground() : list.getForeground());
+        setFont(list.getFont());
+        setEnabled(list.isEnabled());
+        return this;
+    }
+}
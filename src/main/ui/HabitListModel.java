@@ -0,0 +1,39 @@
+package ui;
+
+import model.HabitTrackers;
+import model.Tracker;
+
+// list model showing the habit trackers of a planner, which follows the changes made to them
+// and tells its list only about the rows that changed
+public class HabitListModel extends PlannerListModel<Tracker> {
+    private static final long serialVersionUID = 1L;
+
+    private HabitTrackers habits;
+
+    // EFFECTS: constructs a model showing the given habit trackers
+    public HabitListModel(HabitTrackers habits) {
+        super(habits);
+        this.habits = habits;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: shows the given habit trackers in place of the ones shown before
+    public void setHabits(HabitTrackers habits) {
+        int oldSize = getSize();
+        this.habits = habits;
+        replaceSection(habits, oldSize);
+    }
+
+    // EFFECTS: returns the number of habit trackers shown
+    @Override
+    public int getSize() {
+        return this.habits.numberOfTrackers();
+    }
+
+    // REQUIRES: 0 <= index < getSize()
+    // EFFECTS: returns the habit tracker shown at the given row
+    @Override
+    public Tracker getElementAt(int index) {
+        return this.habits.getTracker(index);
+    }
+}
@@ -1,36 +1,60 @@
 package ui;
 
 import model.*;
-import persistence.JsonLoader;
-import persistence.JsonSaver;
+import persistence.AutosaveService;
+import persistence.Journal;
 
-import javax.sound.sampled.*;
 import javax.swing.*;
 import java.awt.*;
-import java.io.File;
-import java.io.FileNotFoundException;
+import java.awt.event.ActionEvent;
+import java.awt.event.MouseAdapter;
+import java.awt.event.MouseEvent;
+import java.awt.event.WindowAdapter;
+import java.awt.event.WindowEvent;
 import java.io.IOException;
-import java.text.SimpleDateFormat;
-import java.util.Calendar;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.IntConsumer;
 
 // life planner app including GUI with habits you can track
 public class LifePlannerApp extends JFrame {
+    private static final long serialVersionUID = 1L;
     private static final String TIME_PATTERN = "KK:mma";
+    private static final String DATE_PATTERN = "d MMMM yyyy";
     private static final String FILE_PATH = "./data/savedSchedule.json";
+    private static final String JOURNAL_PATH = "./data/savedSchedule.journal";
+    private static final int SAVE_GENERATIONS = 3;
+    private static final int COMPACT_AFTER = 1000;
+    private static final long AUTOSAVE_DELAY = 2000;
+    private static final long AUTOSAVE_MAX_DELAY = 10000;
+    private static final long CLOSE_TIMEOUT = 5000;
     private static final int WIDTH = 600;
     private static final int HEIGHT = 400;
+    private static final int CELL_WIDTH = 540;
+    private static final int CELL_HEIGHT = 24;
+    // sound played after saving (royalty-free from Dreamstime.com)
     private static final String MUSIC_FILE_PATH = "./data/ding.wav";
 
     private ScheduledList<Appointment> apptList;
     private ScheduledList<Task> taskList;
     private HabitTrackers habits;
 
-    private JsonSaver jsonSaver;
-    private JsonLoader jsonLoader;
+    private Journal journal;
+    private AutosaveService autosave;
+    private AudioFeedback ding;
 
     private JPanel mainPanel;
     private JPanel habitPanel;
     private JPanel habitButtonPanel;
+    private HabitListModel habitModel;
+    private JScrollPane habitScrollPane;
+    private ScheduledListModel<Appointment> apptModel;
+    private ScheduledListModel<Task> taskModel;
+    private JButton saveButton;
+    private JButton loadButton;
+    private JProgressBar progressBar;
+    private JLabel saveStatus;
 
     private GridBagConstraints gridBagConstraints;
 
@@ -40,6 +64,13 @@ public class LifePlannerApp extends JFrame {
 
         SwingUtilities.invokeLater(() -> {
             setDefaultCloseOperation(JFrame.EXIT_ON_CLOSE);
+            addWindowListener(new WindowAdapter() {
+                @Override
+                public void windowClosing(WindowEvent e) {
+                    autosave.close(CLOSE_TIMEOUT);
+                    ding.close();
+                }
+            });
             setSize(WIDTH, HEIGHT);
 
             initializePanels();
@@ -55,9 +86,15 @@ public class LifePlannerApp extends JFrame {
         apptList = new ScheduledList<>("appointments");
         taskList = new ScheduledList<>("tasks");
         habits = new HabitTrackers();
+        habitModel = new HabitListModel(habits);
+        apptModel = new ScheduledListModel<>(apptList);
+        taskModel = new ScheduledListModel<>(taskList);
 
-        jsonSaver = new JsonSaver(FILE_PATH);
-        jsonLoader = new JsonLoader(FILE_PATH);
+        journal = new Journal(FILE_PATH, JOURNAL_PATH, COMPACT_AFTER, SAVE_GENERATIONS);
+        journal.attach(new Planner(apptList, taskList, habits));
+        ding = new AudioFeedback(MUSIC_FILE_PATH);
+        autosave = new AutosaveService(journal, SwingUtilities::invokeLater, AUTOSAVE_DELAY, AUTOSAVE_MAX_DELAY,
+                new AutosaveStatus());
 
         mainPanel = new JPanel();
         mainPanel.setLayout(new BoxLayout(mainPanel, BoxLayout.Y_AXIS));
@@ -74,11 +111,19 @@ public class LifePlannerApp extends JFrame {
         initializeHabitButtonPanel();
 
         JPanel savePanel = getSavePanel();
-        setHabits(habits, habitPanel);
+        initializeHabitList();
+        showHabitList();
+
+        JPanel habitTab = new JPanel(new BorderLayout());
+        habitTab.add(habitPanel, BorderLayout.CENTER);
+        habitTab.add(habitButtonPanel, BorderLayout.SOUTH);
+        JTabbedPane tabs = new JTabbedPane();
+        tabs.addTab("Habits", habitTab);
+        tabs.addTab("Appointments", new JScrollPane(initializeAppointmentList()));
+        tabs.addTab("Tasks", new JScrollPane(initializeTaskList()));
 
         mainPanel.add(savePanel);
-        mainPanel.add(habitPanel);
-        mainPanel.add(habitButtonPanel);
+        mainPanel.add(tabs);
     }
 
     // MODIFIES: this
@@ -91,34 +136,79 @@ public class LifePlannerApp extends JFrame {
     }
 
     // MODIFIES: this
-    // EFFECTS: shows habits in the given panel in which completion is toggleable
-    private void setHabits(HabitTrackers habits, JPanel panel) {
-        if (habits.numberOfTrackers() == 0) {
-            gridBagConstraints.anchor = GridBagConstraints.CENTER;
-            panel.add(new JLabel("No habits to show."));
-        }
-        for (int i = 0; i < habits.numberOfTrackers(); i++) {
-            gridBagConstraints.anchor = GridBagConstraints.LINE_START;
-            gridBagConstraints.weightx = 1;
-            gridBagConstraints.gridx = 1;
-            gridBagConstraints.gridy = i + 1;
-            Tracker tracker = habits.getTracker(i);
-
-            String name = tracker.getName();
-            String combined;
-            if (tracker.isDoneToday()) {
-                String time = habitTimeComplete(tracker);
-                combined = name + " - done at " + time;
-            } else {
-                combined = name;
-            }
+    // EFFECTS: initializes the list showing habits, in which clicking a habit or pressing space
+    //          toggles its completion
+    private void initializeHabitList() {
+        JList<Tracker> habitList = virtualList(habitModel, new HabitCellRenderer(TIME_PATTERN));
+        onToggle(habitList, this::processToggleHabit);
+        habitScrollPane = new JScrollPane(habitList);
+    }
 
-            JLabel label = new JLabel(combined);
+    // EFFECTS: returns a list of appointments
+    private JList<Appointment> initializeAppointmentList() {
+        return virtualList(apptModel, new AppointmentCellRenderer(DATE_PATTERN, TIME_PATTERN));
+    }
 
-            panel.add(label, gridBagConstraints);
-        }
+    // EFFECTS: returns a list of tasks, in which clicking a task or pressing space toggles its
+    //          completion
+    private JList<Task> initializeTaskList() {
+        JList<Task> list = virtualList(taskModel, new TaskCellRenderer(DATE_PATTERN + " 'at' " + TIME_PATTERN));
+        onToggle(list, index -> taskList.getItem(index).toggleCompletion());
+        return list;
+    }
 
-        displayToggleButtons(panel);
+    // EFFECTS: returns a list showing model with renderer in rows of a fixed size, so that the
+    //          list never measures its rows and only renders the ones scrolled into view
+    private <T> JList<T> virtualList(ListModel<T> model, ListCellRenderer<? super T> renderer) {
+        JList<T> list = new JList<>(model);
+        list.setCellRenderer(renderer);
+        list.setFixedCellHeight(CELL_HEIGHT);
+        list.setFixedCellWidth(CELL_WIDTH);
+        return list;
+    }
+
+    // MODIFIES: list
+    // EFFECTS: makes clicking a row of list, or pressing space on the selected row, toggle it
+    private void onToggle(JList<?> list, IntConsumer toggle) {
+        list.addMouseListener(new MouseAdapter() {
+            @Override
+            public void mouseClicked(MouseEvent e) {
+                int index = list.locationToIndex(e.getPoint());
+                if (index >= 0 && list.getCellBounds(index, index).contains(e.getPoint())) {
+                    toggle.accept(index);
+                }
+            }
+        });
+        list.getInputMap().put(KeyStroke.getKeyStroke("SPACE"), "toggle");
+        list.getActionMap().put("toggle", new AbstractAction() {
+            @Override
+            public void actionPerformed(ActionEvent e) {
+                if (list.getSelectedIndex() >= 0) {
+                    toggle.accept(list.getSelectedIndex());
+                }
+            }
+        });
+    }
+
+    // MODIFIES: this
+    // EFFECTS: shows the list of habits in the habit panel, or a message if there are none
+    private void showHabitList() {
+        habitPanel.removeAll();
+        gridBagConstraints.weightx = 1;
+        gridBagConstraints.gridx = 0;
+        gridBagConstraints.gridy = 0;
+        gridBagConstraints.anchor = GridBagConstraints.CENTER;
+        if (habits.numberOfTrackers() == 0) {
+            habitPanel.add(new JLabel("No habits to show."), gridBagConstraints);
+        } else {
+            gridBagConstraints.fill = GridBagConstraints.BOTH;
+            gridBagConstraints.weighty = 1;
+            habitPanel.add(habitScrollPane, gridBagConstraints);
+            gridBagConstraints.fill = GridBagConstraints.NONE;
+            gridBagConstraints.weighty = 0;
+        }
+        mainPanel.validate();
+        mainPanel.repaint();
     }
 
     // MODIFIES: this
@@ -133,7 +223,7 @@ public class LifePlannerApp extends JFrame {
         JButton confirmButton = new JButton("Confirm");
         confirmButton.addActionListener(e -> addHabitToList(nameField.getText()));
         JButton backButton = new JButton("Back");
-        confirmButton.addActionListener(e -> refreshHabits());
+        backButton.addActionListener(e -> showHabitList());
 
         addNewHabitButtons(nameField, confirmButton, backButton);
 
@@ -160,44 +250,20 @@ public class LifePlannerApp extends JFrame {
     }
 
     // MODIFIES: this
-    // EFFECTS: adds habit with given name and refreshes window
+    // EFFECTS: adds habit with given name and goes back to the list of habits
     private void addHabitToList(String name) {
         habits.addTracker(new Tracker(name));
-        refreshHabits();
-    }
-
-    // MODIFIES: this
-    // EFFECTS: displays buttons which show habit completion to toggle completion
-    private void displayToggleButtons(JPanel panel) {
-        gridBagConstraints.anchor = GridBagConstraints.LINE_END;
-        for (int i = 0; i < habits.numberOfTrackers(); i++) {
-            gridBagConstraints.weightx = 1;
-            gridBagConstraints.gridx = 0;
-            gridBagConstraints.gridy = i + 1;
-            String text = "  ";
-            if (habits.getTracker(i).isDoneToday()) {
-                text = "X";
-            }
-            JButton toggleButton = new JButton(text);
-            int index = i;
-            toggleButton.addActionListener(e -> {
-                processToggleHabit(index);
-                refreshHabits();
-            });
-            panel.add(toggleButton, gridBagConstraints);
-        }
-
-        mainPanel.validate();
-        mainPanel.repaint();
+        showHabitList();
     }
 
     // MODIFIES: this
     // EFFECTS: if habit is incomplete, mark as complete, otherwise mark as incomplete
     private void processToggleHabit(int index) {
-        if (!habits.getTracker(index).isDoneToday()) {
-            habits.getTracker(index).markDone();
-        } else if (habits.getTracker(index).isDoneToday()) {
-            habits.getTracker(index).unmarkDone();
+        Tracker tracker = habits.getTracker(index);
+        if (tracker.isDoneToday()) {
+            tracker.unmarkDone();
+        } else {
+            tracker.markDone();
         }
     }
 
@@ -206,77 +272,144 @@ public class LifePlannerApp extends JFrame {
     private JPanel getSavePanel() {
         JPanel buttonPanel = new JPanel();
 
-        JButton saveButton = new JButton("Save");
+        saveButton = new JButton("Save");
         saveButton.addActionListener(e -> save());
-        JButton loadButton = new JButton("Load");
-        loadButton.addActionListener(e -> {
-            load();
-            refreshHabits();
-        });
+        loadButton = new JButton("Load");
+        loadButton.addActionListener(e -> load());
+        progressBar = new JProgressBar(0, 100);
+        progressBar.setStringPainted(true);
+        progressBar.setVisible(false);
+        saveStatus = new JLabel();
 
         buttonPanel.add(saveButton);
         buttonPanel.add(loadButton);
+        buttonPanel.add(progressBar);
+        buttonPanel.add(saveStatus);
 
         return buttonPanel;
     }
 
-    // EFFECTS: converts last completed time in tracker to string
-    private String habitTimeComplete(Tracker tracker) {
-        return toTime(tracker.getLastElement());
+    // MODIFIES: this
+    // EFFECTS: saves the changes made to the app since the last save to FILE_PATH in the background,
+    //          plays a sound once they are saved, and keeps saving later changes automatically
+    private void save() {
+        autosave.setEnabled(true);
+        showProgress("Saving...", true);
+        autosave.saveNow().whenComplete((saved, e) -> {
+            SwingUtilities.invokeLater(this::hideProgress);
+            if (e == null) {
+                ding.play();
+            }
+        });
     }
 
-    // EFFECTS: formats the given calendar into a string with just the time
-    private String toTime(Calendar given) {
-        SimpleDateFormat formatted = new SimpleDateFormat(TIME_PATTERN);
-        return formatted.format(given.getTime());
+    // MODIFIES: this
+    // EFFECTS: saves any changes still waiting, then loads the whole app from FILE_PATH in the
+    //          background while showing its progress, then keeps saving later changes automatically
+    private void load() {
+        boolean wasEnabled = autosave.isEnabled();
+        CompletableFuture<Void> saved = wasEnabled ? autosave.saveNow() : CompletableFuture.completedFuture(null);
+        autosave.setEnabled(false);
+        saveButton.setEnabled(false);
+        loadButton.setEnabled(false);
+        showProgress("Loading...", false);
+        new LoadWorker(saved, wasEnabled).execute();
     }
 
-    // EFFECTS: saves the whole app to FILE_PATH and plays a sound
-    private void save() {
-        try {
-            jsonSaver.open();
-            jsonSaver.save(apptList, taskList, habits);
-            jsonSaver.close();
-            playDing();
-        } catch (FileNotFoundException e) {
-            e.printStackTrace();
-            System.out.println("Error saving to file: " + FILE_PATH);
-        }
+    // MODIFIES: this
+    // EFFECTS: swaps the recovered planner in for the one shown, all at once
+    private void resume(Journal.Recovery recovery) {
+        journal.resume(recovery);
+        Planner planner = recovery.getPlanner();
+        apptList = planner.getAppointments();
+        taskList = planner.getTasks();
+        habits = planner.getHabits();
+        habitModel.setHabits(habits);
+        apptModel.setList(apptList);
+        taskModel.setList(taskList);
+        showHabitList();
     }
 
     // MODIFIES: this
-    // EFFECTS: loads the whole app from FILE_PATH
-    private void load() {
-        try {
-            apptList = jsonLoader.loadAppointments();
-            taskList = jsonLoader.loadTasks();
-            habits = jsonLoader.loadHabits();
-        } catch (IOException e) {
-            e.printStackTrace();
-            System.out.println("Error loading from file: " + FILE_PATH);
-        }
+    // EFFECTS: shows the progress bar with the given message, moving by itself if indeterminate
+    private void showProgress(String message, boolean indeterminate) {
+        progressBar.setValue(0);
+        progressBar.setString(message);
+        progressBar.setIndeterminate(indeterminate);
+        progressBar.setVisible(true);
+        mainPanel.revalidate();
     }
 
     // MODIFIES: this
-    // EFFECTS: refreshes habit display screen
-    private void refreshHabits() {
-        habitPanel.removeAll();
-        setHabits(habits, habitPanel);
-        mainPanel.validate();
-        mainPanel.repaint();
+    // EFFECTS: hides the progress bar
+    private void hideProgress() {
+        progressBar.setVisible(false);
+        mainPanel.revalidate();
     }
 
-    // EFFECTS: plays a sound (royalty-free from Dreamstime.com)
-    private void playDing() {
-        try {
-            File dingFile = new File(MUSIC_FILE_PATH);
-            Clip ding = AudioSystem.getClip();
-            AudioInputStream audioInput = AudioSystem.getAudioInputStream(dingFile);
-            ding.open(audioInput);
-            ding.start();
-        } catch (IOException | LineUnavailableException | UnsupportedAudioFileException e) {
+    // represents the status shown next to the save button of how the latest save went
+    private class AutosaveStatus implements AutosaveService.Listener {
+        // EFFECTS: shows that every change so far is saved
+        @Override
+        public void saved(long latencyMillis, int records, boolean snapshot) {
+            SwingUtilities.invokeLater(() -> saveStatus.setText("All changes saved"));
+        }
+
+        // EFFECTS: prints the error and shows that changes are not saved
+        @Override
+        public void failed(IOException e) {
             e.printStackTrace();
-            System.out.println("Exception encountered while playing sound.");
+            SwingUtilities.invokeLater(() -> saveStatus.setText("Error saving to file: " + FILE_PATH));
+        }
+    }
+
+    // represents loading the app from FILE_PATH off the event dispatch thread, once the save
+    // started before it has finished
+    private class LoadWorker extends SwingWorker<Journal.Recovery, Void> {
+        private final CompletableFuture<Void> saved;
+        private final boolean wasEnabled;
+
+        // EFFECTS: constructs a load waiting for saved, showing its progress in the progress bar;
+        //          wasEnabled is whether the app was saving automatically before the load
+        LoadWorker(CompletableFuture<Void> saved, boolean wasEnabled) {
+            this.saved = saved;
+            this.wasEnabled = wasEnabled;
+            addPropertyChangeListener(e -> {
+                if ("progress".equals(e.getPropertyName())) {
+                    progressBar.setValue((Integer) e.getNewValue());
+                    progressBar.setString(null);
+                }
+            });
+        }
+
+        // EFFECTS: waits for the save, then reads back the saved planner
+        @Override
+        protected Journal.Recovery doInBackground() throws IOException {
+            try {
+                this.saved.join();
+            } catch (CompletionException e) {
+                // the failed save has been reported already; load what is on disk
+            }
+            return journal.readSaved(this::setProgress);
+        }
+
+        // MODIFIES: LifePlannerApp.this
+        // EFFECTS: swaps the loaded planner in on the event dispatch thread and starts saving
+        //          automatically, or goes back to how the app was if the load failed
+        @Override
+        protected void done() {
+            boolean loaded = false;
+            try {
+                resume(get());
+                loaded = true;
+            } catch (InterruptedException | ExecutionException e) {
+                e.printStackTrace();
+                System.out.println("Error loading from file: " + FILE_PATH);
+            }
+            autosave.setEnabled(loaded || this.wasEnabled);
+            saveButton.setEnabled(true);
+            loadButton.setEnabled(true);
+            hideProgress();
         }
     }
 }
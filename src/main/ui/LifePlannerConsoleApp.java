@@ -1,10 +1,8 @@
 package ui;
 
 import model.*;
-import persistence.JsonLoader;
-import persistence.JsonSaver;
+import persistence.Journal;
 
-import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.text.SimpleDateFormat;
 import java.util.Calendar;
@@ -16,14 +14,19 @@ public class LifePlannerConsoleApp {
     private static final String TIME_PATTERN = "KK:mma";
 
     private static final String FILE_PATH = "./data/savedSchedule.json";
+    private static final String JOURNAL_PATH = "./data/savedSchedule.journal";
+    private static final int SAVE_GENERATIONS = 3;
+    private static final int COMPACT_AFTER = 1000;
 
     private ScheduledList<Appointment> apptList;
     private ScheduledList<Task> taskList;
     private HabitTrackers habits;
     private Scanner input;
+    private ConsoleRenderer display;
+    private SimpleDateFormat dateFormat;
+    private SimpleDateFormat timeFormat;
 
-    private JsonSaver jsonSaver;
-    private JsonLoader jsonLoader;
+    private Journal journal;
 
     // EFFECTS: runs the application
     public LifePlannerConsoleApp() {
@@ -60,9 +63,12 @@ public class LifePlannerConsoleApp {
         taskList = new ScheduledList<>("tasks");
         habits = new HabitTrackers();
         input = new Scanner(System.in);
+        display = ConsoleRenderer.forStandardOutput();
+        dateFormat = new SimpleDateFormat(DATE_PATTERN);
+        timeFormat = new SimpleDateFormat(TIME_PATTERN);
 
-        jsonSaver = new JsonSaver(FILE_PATH);
-        jsonLoader = new JsonLoader(FILE_PATH);
+        journal = new Journal(FILE_PATH, JOURNAL_PATH, COMPACT_AFTER, SAVE_GENERATIONS);
+        journal.attach(new Planner(apptList, taskList, habits));
     }
 
     // EFFECTS: displays main menu
@@ -164,18 +170,19 @@ public class LifePlannerConsoleApp {
     // EFFECTS: prints given list of appointments
     private void printAppointments(ScheduledList<Appointment> list) {
         if (list.length() == 0) {
-            System.out.println("\tNo appointments.");
+            display.line("\tNo appointments.");
         } else {
             for (int i = 0; i < list.length(); i++) {
                 Appointment temp = list.getItem(i);
                 String naming = "\t" + (i + 1) + ". " + temp.getName();
                 String time = appointmentTimeToString(temp);
-                System.out.println(naming + " - " + time);
+                display.line(naming + " - " + time);
                 if (!temp.getDescription().equals("")) {
-                    System.out.println("\t\t" + temp.getDescription());
+                    display.line("\t\t" + temp.getDescription());
                 }
             }
         }
+        display.flush(this::showNextPage);
     }
 
     // REQUIRES: selection of either "" for all, or "today" from appointment display
@@ -385,7 +392,11 @@ public class LifePlannerConsoleApp {
             } else {
                 try {
                     SimpleDateFormat formatter = new SimpleDateFormat("yyyy-MM-dd");
-                    appointment.getTimePeriod().getStart().setTime(formatter.parse(command));
+                    CalendarInterval period = appointment.getTimePeriod();
+                    Calendar start = period.getStart();
+                    start.setTime(formatter.parse(command));
+                    period.setStart(start);
+                    appointment.setTimePeriod(period);
                     newAppointmentStartTime(appointment);
                     keepRunning = false;
                 } catch (Exception e) {
@@ -439,8 +450,12 @@ public class LifePlannerConsoleApp {
 
     // EFFECTS: changes the time on given appointment start date to match given time
     private void setAppointmentTimeToDate(Appointment appointment, Calendar time) {
-        appointment.getTimePeriod().getStart().set(Calendar.HOUR_OF_DAY, time.get(Calendar.HOUR_OF_DAY));
-        appointment.getTimePeriod().getStart().set(Calendar.MINUTE, time.get(Calendar.MINUTE));
+        CalendarInterval period = appointment.getTimePeriod();
+        Calendar start = period.getStart();
+        start.set(Calendar.HOUR_OF_DAY, time.get(Calendar.HOUR_OF_DAY));
+        start.set(Calendar.MINUTE, time.get(Calendar.MINUTE));
+        period.setStart(start);
+        appointment.setTimePeriod(period);
     }
 
     // EFFECTS: displays new appointment hour length menu & processes user input
@@ -481,7 +496,9 @@ public class LifePlannerConsoleApp {
 
     // EFFECTS: processes user input to set hours for the new appointment
     private void processAppointmentHours(int hours, Appointment appointment) {
-        appointment.getTimePeriod().setHours(hours);
+        CalendarInterval period = appointment.getTimePeriod();
+        period.setHours(hours);
+        appointment.setTimePeriod(period);
     }
 
     // EFFECTS: displays new appointment minute length menu & processes user input
@@ -521,7 +538,9 @@ public class LifePlannerConsoleApp {
 
     // EFFECTS: processes user input to set minute length for new appointment
     private void processAppointmentMinutes(int minutes, Appointment appointment) {
-        appointment.getTimePeriod().setMinutes(minutes);
+        CalendarInterval period = appointment.getTimePeriod();
+        period.setMinutes(minutes);
+        appointment.setTimePeriod(period);
     }
 
     // REQUIRES: selection based on "" for all, or "today"
@@ -666,7 +685,7 @@ public class LifePlannerConsoleApp {
     // EFFECTS: prints given task list
     private void printTasks(ScheduledList<Task> list) {
         if (list.length() == 0) {
-            System.out.println("\tNo tasks.");
+            display.line("\tNo tasks.");
         } else {
             for (int i = 0; i < list.length(); i++) {
                 Task temp = list.getItem(i);
@@ -676,12 +695,13 @@ public class LifePlannerConsoleApp {
                 if (temp.isComplete()) {
                     completion = "[X]";
                 }
-                System.out.println("\t" + completion + " " + naming + " - due " + time);
+                display.line("\t" + completion + " " + naming + " - due " + time);
                 if (!temp.getDescription().equals("")) {
-                    System.out.println("\t\t" + temp.getDescription());
+                    display.line("\t\t" + temp.getDescription());
                 }
             }
         }
+        display.flush(this::showNextPage);
     }
 
     // REQUIRES: selection of either "" for all, or "today" from task display
@@ -895,7 +915,9 @@ public class LifePlannerConsoleApp {
             } else {
                 try {
                     SimpleDateFormat formatter = new SimpleDateFormat("yyyy-MM-dd");
-                    task.getDue().setTime(formatter.parse(command));
+                    Calendar due = task.getDue();
+                    due.setTime(formatter.parse(command));
+                    task.setDue(due);
                     newTaskTime(task);
                     keepRunning = false;
                 } catch (Exception e) {
@@ -948,8 +970,10 @@ public class LifePlannerConsoleApp {
 
     // EFFECTS: changes the time on given task due date to match given time
     private void setTaskTimeToDate(Task task, Calendar time) {
-        task.getDue().set(Calendar.HOUR_OF_DAY, time.get(Calendar.HOUR_OF_DAY));
-        task.getDue().set(Calendar.MINUTE, time.get(Calendar.MINUTE));
+        Calendar due = task.getDue();
+        due.set(Calendar.HOUR_OF_DAY, time.get(Calendar.HOUR_OF_DAY));
+        due.set(Calendar.MINUTE, time.get(Calendar.MINUTE));
+        task.setDue(due);
     }
 
     // REQUIRES: selection based on "" for all, or "today"
@@ -1066,8 +1090,9 @@ public class LifePlannerConsoleApp {
 
     // EFFECTS: converts task time toa string
     private String taskTimeToString(Task task) {
-        String date = toDate(task.getDue());
-        String time = toTime(task.getDue());
+        Calendar due = task.getDue();
+        String date = toDate(due);
+        String time = toTime(due);
         return date + " at " + time;
     }
 
@@ -1113,14 +1138,24 @@ public class LifePlannerConsoleApp {
                 String naming = "\t" + (i + 1) + ". " + temp.getName();
                 if (temp.isDoneToday()) {
                     String time = habitTimeComplete(temp);
-                    System.out.println("\t[X]" + naming + " - done at " + time);
+                    display.line("\t[X]" + naming + " - done at " + time);
                 } else {
-                    System.out.println("\t[ ]" + naming);
+                    display.line("\t[ ]" + naming);
                 }
             }
         } else {
-            System.out.println("No habit trackers.");
+            display.line("No habit trackers.");
         }
+        display.flush(this::showNextPage);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: asks the user whether to show the next page of a long listing, reading the
+    //          answer as a whole line so that pressing Enter alone stops the listing
+    private boolean showNextPage() {
+        System.out.print("\t-- n -> next page, Enter or any other key -> stop listing -- ");
+        input = new Scanner(System.in);
+        return input.nextLine().trim().equalsIgnoreCase("n");
     }
 
     // EFFECTS: converts last completed time in tracker to string
@@ -1321,14 +1356,12 @@ public class LifePlannerConsoleApp {
 
     /* S A V I N G  &  L O A D I N G */
 
-    // EFFECTS: saves the whole app to FILE_PATH
+    // EFFECTS: saves the changes made to the app since the last save to FILE_PATH
     private void save() {
         try {
-            jsonSaver.open();
-            jsonSaver.save(apptList, taskList, habits);
-            jsonSaver.close();
+            journal.commit();
             System.out.println("Saved to " + FILE_PATH);
-        } catch (FileNotFoundException e) {
+        } catch (IOException e) {
             System.out.println("Error saving to file: " + FILE_PATH);
         }
     }
@@ -1337,9 +1370,10 @@ public class LifePlannerConsoleApp {
     // EFFECTS: loads the whole app from FILE_PATH
     private void load() {
         try {
-            apptList = jsonLoader.loadAppointments();
-            taskList = jsonLoader.loadTasks();
-            habits = jsonLoader.loadHabits();
+            Planner planner = journal.recover();
+            apptList = planner.getAppointments();
+            taskList = planner.getTasks();
+            habits = planner.getHabits();
             System.out.println("Loaded from " + FILE_PATH);
         } catch (IOException e) {
             System.out.println("Error loading from file: " + FILE_PATH);
@@ -1390,13 +1424,11 @@ public class LifePlannerConsoleApp {
 
     // EFFECTS: formats the given calendar into a string with just the date
     private String toDate(Calendar given) {
-        SimpleDateFormat formatted = new SimpleDateFormat(DATE_PATTERN);
-        return formatted.format(given.getTime());
+        return dateFormat.format(given.getTime());
     }
 
     // EFFECTS: formats the given calendar into a string with just the time
     private String toTime(Calendar given) {
-        SimpleDateFormat formatted = new SimpleDateFormat(TIME_PATTERN);
-        return formatted.format(given.getTime());
+        return timeFormat.format(given.getTime());
     }
 }
\ No newline at end of file
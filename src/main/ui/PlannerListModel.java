@@ -0,0 +1,50 @@
+package ui;
+
+import model.PlannerEvent;
+import model.PlannerObserver;
+import model.Subject;
+
+import javax.swing.*;
+
+// list model showing a section of a planner, which follows the changes made to the section
+// and tells its list only about the rows that changed
+public abstract class PlannerListModel<T> extends AbstractListModel<T> implements PlannerObserver {
+    private static final long serialVersionUID = 1L;
+
+    private Subject section;
+
+    // EFFECTS: constructs a model following the changes made to the given section
+    protected PlannerListModel(Subject section) {
+        this.section = section;
+        section.addObserver(this);
+    }
+
+    // REQUIRES: getSize() and getElementAt() already read from the new section
+    // MODIFIES: this
+    // EFFECTS: follows the given section in place of the one followed before, which had
+    //          oldSize rows, and tells the list that every row has been replaced
+    protected void replaceSection(Subject section, int oldSize) {
+        this.section.removeObserver(this);
+        this.section = section;
+        section.addObserver(this);
+        if (oldSize > 0) {
+            fireIntervalRemoved(this, 0, oldSize - 1);
+        }
+        if (getSize() > 0) {
+            fireIntervalAdded(this, 0, getSize() - 1);
+        }
+    }
+
+    // EFFECTS: tells the list about the row added, removed, or changed by the event
+    @Override
+    public void update(PlannerEvent event) {
+        int index = event.getIndex();
+        if (event.getKind() == PlannerEvent.Kind.ADD) {
+            fireIntervalAdded(this, index, index);
+        } else if (event.getKind() == PlannerEvent.Kind.REMOVE) {
+            fireIntervalRemoved(this, index, index);
+        } else {
+            fireContentsChanged(this, index, index);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package ui;
+
+import model.Schedulable;
+import model.ScheduledList;
+import persistence.Saveable;
+
+// list model showing the appointments or tasks of a planner in order, which follows the
+// changes made to them and tells its list only about the rows that changed
+public class ScheduledListModel<T extends Comparable<T> & Schedulable & Saveable> extends PlannerListModel<T> {
+    private static final long serialVersionUID = 1L;
+
+    private ScheduledList<T> list;
+
+    // EFFECTS: constructs a model showing the items of the given list
+    public ScheduledListModel(ScheduledList<T> list) {
+        super(list);
+        this.list = list;
+    }
+
+    // MODIFIES: this
+    // EFFECTS: shows the items of the given list in place of the ones shown before
+    public void setList(ScheduledList<T> list) {
+        int oldSize = getSize();
+        this.list = list;
+        replaceSection(list, oldSize);
+    }
+
+    // EFFECTS: returns the number of items shown
+    @Override
+    public int getSize() {
+        return this.list.length();
+    }
+
+    // REQUIRES: 0 <= index < getSize()
+    // EFFECTS: returns the item shown at the given row
+    @Override
+    public T getElementAt(int index) {
+        return this.list.getItem(index);
+    }
+}
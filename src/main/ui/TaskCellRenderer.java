@@ -0,0 +1,38 @@
+package ui;
+
+import model.Task;
+
+import javax.swing.*;
+import java.awt.*;
+import java.text.SimpleDateFormat;
+import java.util.Calendar;
+
+// renders a task in a list as a check box ticked if the task is complete, labelled with its
+// name and when it is due, if it has a due date
+public class TaskCellRenderer extends JCheckBox implements ListCellRenderer<Task> {
+    private static final long serialVersionUID = 1L;
+
+    private final SimpleDateFormat dueFormat;
+
+    // EFFECTS: constructs a renderer showing when a task is due with the given pattern
+    public TaskCellRenderer(String duePattern) {
+        this.dueFormat = new SimpleDateFormat(duePattern);
+        setOpaque(true);
+    }
+
+    // MODIFIES: this
+    // EFFECTS: sets up this check box to show the given task
+    @Override
+    public Component getListCellRendererComponent(JList<? extends Task> list, Task task, int index,
+                                                  boolean isSelected, boolean cellHasFocus) {
+        setSelected(task.isComplete());
+        Calendar due = task.getDue();
+        setText(task.getName() + " - " + (due == null ? "no due date" : "due " + this.dueFormat.format(due.getTime())));
+        setToolTipText(task.getDescription().isEmpty() ? null : task.getDescription());
+        setBackground(isSelected ? list.getSelectionBackground() : list.getBackground());
+        setForeground(isSelected ? list.getSelectionForeground() : list.getForeground());
+        setFont(list.getFont());
+        setEnabled(list.isEnabled());
+        return this;
+    }
+}
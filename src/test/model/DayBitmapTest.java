@@ -0,0 +1,80 @@
+package model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Unit tests for DayBitmap class
+class DayBitmapTest {
+    DayBitmap bitmap;
+
+    @BeforeEach
+    void runBefore() {
+        bitmap = new DayBitmap();
+    }
+
+    @Test
+    void testEmpty() {
+        assertEquals(0, bitmap.cardinality());
+        assertFalse(bitmap.get(18500));
+        assertEquals(0, bitmap.count(0, 100000));
+        assertTrue(bitmap.slice(0, 100).isEmpty());
+    }
+
+    @Test
+    void testSetAndGet() {
+        bitmap.set(18500);
+        bitmap.set(18500);
+        bitmap.set(-3);
+        assertEquals(2, bitmap.cardinality());
+        assertTrue(bitmap.get(18500));
+        assertTrue(bitmap.get(-3));
+        assertFalse(bitmap.get(18501));
+        assertFalse(bitmap.get(18500 + 1024));
+    }
+
+    @Test
+    void testClear() {
+        bitmap.set(18500);
+        bitmap.set(18501);
+        bitmap.clear(18500);
+        bitmap.clear(18500);
+        bitmap.clear(40000);
+        assertEquals(1, bitmap.cardinality());
+        assertFalse(bitmap.get(18500));
+        bitmap.clear(18501);
+        assertEquals(0, bitmap.cardinality());
+        assertFalse(bitmap.get(18501));
+        bitmap.set(1);
+        bitmap.clearAll();
+        assertEquals(0, bitmap.cardinality());
+        assertFalse(bitmap.get(1));
+    }
+
+    @Test
+    void testCountAcrossChunksAndWords() {
+        for (long day = 1000; day < 1100; day += 3) {
+            bitmap.set(day);
+        }
+        assertEquals(34, bitmap.count(1000, 1100));
+        assertEquals(34, bitmap.count(0, 5000));
+        assertEquals(1, bitmap.count(1000, 1001));
+        assertEquals(0, bitmap.count(1001, 1003));
+        assertEquals(11, bitmap.count(1020, 1054));
+        assertEquals(0, bitmap.count(1100, 1000));
+    }
+
+    @Test
+    void testSlice() {
+        bitmap.set(1020);
+        bitmap.set(1030);
+        bitmap.set(2000);
+        BitSet slice = bitmap.slice(1025, 2001);
+        assertEquals(2, slice.cardinality());
+        assertTrue(slice.get(5));
+        assertTrue(slice.get(975));
+    }
+}
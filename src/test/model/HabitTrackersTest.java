@@ -3,6 +3,8 @@ package model;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 // Unit tests for HabitTrackers class
@@ -54,4 +56,49 @@ class HabitTrackersTest {
         assertEquals(ANOTHER_TRACKER, habits.getTracker(0));
         assertTrue(habits.containsTracker(ANOTHER_TRACKER));
     }
-}
\ No newline at end of file
+
+    @Test
+    void testObserverToldOfTrackerChanges() {
+        ArrayList<PlannerEvent> events = new ArrayList<>();
+        habits.addObserver(events::add);
+        habits.addTracker(TEST_TRACKER);
+        habits.addTracker(ANOTHER_TRACKER);
+        ANOTHER_TRACKER.addToTracker(1000L);
+        ANOTHER_TRACKER.unmarkDone();
+        habits.removeTracker(0);
+        TEST_TRACKER.markDone();
+
+        assertEquals(5, events.size());
+        assertEquals(PlannerEvent.Kind.ADD, events.get(1).getKind());
+        assertEquals(1, events.get(1).getIndex());
+        assertEquals(PlannerEvent.Kind.MARK, events.get(2).getKind());
+        assertEquals("habit trackers", events.get(2).getSection());
+        assertEquals(1, events.get(2).getIndex());
+        assertEquals(1000L, events.get(2).getTime());
+        assertEquals(PlannerEvent.Kind.UNMARK, events.get(3).getKind());
+        assertEquals(PlannerEvent.Kind.REMOVE, events.get(4).getKind());
+        assertEquals(TEST_TRACKER, events.get(4).getItem());
+    }
+
+    @Test
+    void testDirtyTracking() {
+        assertFalse(habits.isDirty());
+        habits.addTracker(TEST_TRACKER);
+        assertTrue(habits.isDirty());
+        habits.markClean();
+        assertFalse(habits.isDirty());
+
+        TEST_TRACKER.markDone();
+        assertTrue(habits.isDirty());
+        habits.markClean();
+        TEST_TRACKER.unmarkDone();
+        assertTrue(habits.isDirty());
+        habits.markClean();
+
+        habits.removeTracker(0);
+        assertTrue(habits.isDirty());
+        habits.markClean();
+        TEST_TRACKER.markDone();
+        assertFalse(habits.isDirty());
+    }
+}
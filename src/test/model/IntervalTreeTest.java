@@ -0,0 +1,135 @@
+package model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Unit tests for IntervalTree class
+class IntervalTreeTest {
+    static Calendar START = Calendar.getInstance();
+    IntervalTree<Appointment> tree;
+    Appointment morning;
+    Appointment noon;
+    Appointment allDay;
+
+    @BeforeEach
+    void runBefore() {
+        START.set(2020, Calendar.OCTOBER, 1, 9, 0, 0);
+        START.set(Calendar.MILLISECOND, 0);
+        tree = new IntervalTree<>();
+        morning = new Appointment("Morning", "", START, 1, 0);
+        noon = new Appointment("Noon", "", hoursAfterStart(3), 1, 30);
+        allDay = new Appointment("All day", "", hoursAfterStart(-9), 23, 59);
+    }
+
+    @Test
+    void testInsertAndSize() {
+        assertEquals(0, tree.size());
+        tree.insert(morning);
+        tree.insert(noon);
+        assertEquals(2, tree.size());
+    }
+
+    @Test
+    void testOverlappingEmpty() {
+        assertTrue(tree.overlapping(0, Long.MAX_VALUE).isEmpty());
+        assertFalse(tree.anyOverlapping(0, Long.MAX_VALUE, null));
+    }
+
+    @Test
+    void testOverlappingChronological() {
+        tree.insert(noon);
+        tree.insert(morning);
+        tree.insert(allDay);
+        List<Appointment> result = tree.overlapping(millisAfterStart(0), millisAfterStart(4));
+        assertEquals(3, result.size());
+        assertEquals(allDay, result.get(0));
+        assertEquals(morning, result.get(1));
+        assertEquals(noon, result.get(2));
+    }
+
+    @Test
+    void testOverlappingBoundsExclusive() {
+        tree.insert(morning);
+        tree.insert(noon);
+        List<Appointment> result = tree.overlapping(millisAfterStart(1), millisAfterStart(3));
+        assertTrue(result.isEmpty());
+        assertFalse(tree.anyOverlapping(millisAfterStart(1), millisAfterStart(3), null));
+        assertTrue(tree.anyOverlapping(millisAfterStart(1), millisAfterStart(3) + 1, null));
+    }
+
+    @Test
+    void testAnyOverlappingIgnoresItem() {
+        tree.insert(morning);
+        assertFalse(tree.anyOverlapping(millisAfterStart(0), millisAfterStart(1), morning));
+        tree.insert(allDay);
+        assertTrue(tree.anyOverlapping(millisAfterStart(0), millisAfterStart(1), morning));
+    }
+
+    @Test
+    void testRemove() {
+        tree.insert(morning);
+        tree.insert(noon);
+        assertTrue(tree.remove(morning));
+        assertFalse(tree.remove(morning));
+        assertEquals(1, tree.size());
+        assertEquals(1, tree.overlapping(0, Long.MAX_VALUE).size());
+        assertEquals(noon, tree.overlapping(0, Long.MAX_VALUE).get(0));
+    }
+
+    @Test
+    void testManyInsertsAndRemoves() {
+        ArrayList<Appointment> all = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            Appointment next = new Appointment("" + i, "", hoursAfterStart(i), 0, 30);
+            all.add(next);
+            tree.insert(next);
+        }
+        for (int i = 0; i < 200; i += 2) {
+            assertTrue(tree.remove(all.get(i)));
+        }
+        assertEquals(100, tree.size());
+        List<Appointment> result = tree.overlapping(millisAfterStart(10), millisAfterStart(20));
+        assertEquals(5, result.size());
+        assertEquals(all.get(11), result.get(0));
+        assertEquals(all.get(19), result.get(4));
+    }
+
+    @Test
+    void testRebuild() {
+        ArrayList<Appointment> sorted = new ArrayList<>();
+        sorted.add(allDay);
+        sorted.add(morning);
+        sorted.add(new Appointment(morning));
+        sorted.add(noon);
+        tree.insert(noon);
+        tree.rebuild(sorted);
+        assertEquals(4, tree.size());
+        assertEquals(sorted, tree.overlapping(0, Long.MAX_VALUE));
+        assertEquals(3, tree.overlapping(millisAfterStart(0), millisAfterStart(1)).size());
+    }
+
+    @Test
+    void testOverlapsNoLength() {
+        assertTrue(IntervalTree.overlaps(5, 5, 5, 6));
+        assertFalse(IntervalTree.overlaps(5, 5, 6, 7));
+        assertFalse(IntervalTree.overlaps(5, 5, 0, 5));
+    }
+
+    // EFFECTS: returns a calendar the given number of hours after START
+    private Calendar hoursAfterStart(int hours) {
+        Calendar date = (Calendar) START.clone();
+        date.add(Calendar.HOUR_OF_DAY, hours);
+        return date;
+    }
+
+    // EFFECTS: returns the time the given number of hours after START in milliseconds
+    private long millisAfterStart(int hours) {
+        return hoursAfterStart(hours).getTimeInMillis();
+    }
+}
@@ -0,0 +1,86 @@
+package model;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Calendar;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Unit tests for PlannerClock class
+class PlannerClockTest {
+    static Calendar NOON = Calendar.getInstance();
+    PlannerClock clock;
+
+    @BeforeEach
+    void runBefore() {
+        NOON.set(2020, Calendar.OCTOBER, 1, 12, 0, 0);
+        NOON.set(Calendar.MILLISECOND, 0);
+        clock = PlannerClock.fixedAt(NOON.getTimeInMillis());
+    }
+
+    @AfterEach
+    void runAfter() {
+        PlannerClock.setCurrent(new PlannerClock());
+    }
+
+    @Test
+    void testFixedNow() {
+        assertEquals(NOON.getTimeInMillis(), clock.now());
+        assertEquals(NOON, clock.nowCalendar());
+    }
+
+    @Test
+    void testToday() {
+        TimeSpan today = clock.today();
+        Calendar midnight = (Calendar) NOON.clone();
+        midnight.set(Calendar.HOUR_OF_DAY, 0);
+        Calendar nextMidnight = (Calendar) midnight.clone();
+        nextMidnight.add(Calendar.DAY_OF_MONTH, 1);
+        assertEquals(midnight.getTimeInMillis(), today.getStart());
+        assertEquals(nextMidnight.getTimeInMillis() - 1, today.getEnd());
+        assertSame(today, clock.today());
+    }
+
+    @Test
+    void testTodayRollsOver() {
+        long[] time = {NOON.getTimeInMillis()};
+        PlannerClock moving = new PlannerClock() {
+            @Override
+            public long now() {
+                return time[0];
+            }
+        };
+        TimeSpan first = moving.today();
+        long firstDay = moving.todayEpochDay();
+        time[0] += TimeSpan.MILLIS_PER_HOUR;
+        assertSame(first, moving.today());
+        time[0] += 12 * TimeSpan.MILLIS_PER_HOUR;
+        assertNotEquals(first, moving.today());
+        assertEquals(firstDay + 1, moving.todayEpochDay());
+        assertTrue(moving.today().during(time[0]));
+    }
+
+    @Test
+    void testEpochDay() {
+        Calendar nextDay = (Calendar) NOON.clone();
+        nextDay.add(Calendar.DAY_OF_MONTH, 1);
+        nextDay.set(Calendar.HOUR_OF_DAY, 0);
+        assertEquals(clock.todayEpochDay(), clock.epochDay(NOON.getTimeInMillis()));
+        assertEquals(clock.todayEpochDay() + 1, clock.epochDay(nextDay.getTimeInMillis()));
+        assertEquals(clock.todayEpochDay(), clock.epochDay(nextDay.getTimeInMillis() - 1));
+    }
+
+    @Test
+    void testSchedulablesFollowCurrentClock() {
+        Task task = new Task("Task", "", NOON);
+        Appointment appointment = new Appointment("Appointment", "", NOON, 1, 0);
+        assertFalse(task.isToday());
+        assertFalse(appointment.isToday());
+        PlannerClock.setCurrent(clock);
+        assertSame(clock, PlannerClock.getCurrent());
+        assertTrue(task.isToday());
+        assertTrue(appointment.isToday());
+    }
+}
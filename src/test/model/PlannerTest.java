@@ -0,0 +1,30 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Unit tests for Planner class
+class PlannerTest {
+
+    @Test
+    void testEmptyConstructor() {
+        Planner planner = new Planner();
+        assertEquals("appointments", planner.getAppointments().getType());
+        assertEquals(0, planner.getAppointments().length());
+        assertEquals("tasks", planner.getTasks().getType());
+        assertEquals(0, planner.getTasks().length());
+        assertEquals(0, planner.getHabits().numberOfTrackers());
+    }
+
+    @Test
+    void testConstructor() {
+        ScheduledList<Appointment> appointments = new ScheduledList<>("appointments");
+        ScheduledList<Task> tasks = new ScheduledList<>("tasks");
+        HabitTrackers habits = new HabitTrackers();
+        Planner planner = new Planner(appointments, tasks, habits);
+        assertSame(appointments, planner.getAppointments());
+        assertSame(tasks, planner.getTasks());
+        assertSame(habits, planner.getHabits());
+    }
+}
@@ -1,9 +1,12 @@
 package model;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.Calendar;
+import java.util.TimeZone;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -19,6 +22,11 @@ class ScheduledListTest {
         tasks = new ScheduledList<>("tasks");
     }
 
+    @AfterEach
+    void runAfter() {
+        PlannerClock.setCurrent(new PlannerClock());
+    }
+
     @Test
     void testSettersAndGetters() {
         tasks.addItem(TASK_ONE);
@@ -27,6 +35,54 @@ class ScheduledListTest {
         assertEquals(TASK_TWO, tasks.getItem(1));
     }
 
+    @Test
+    void testAddItemOutOfOrder() {
+        Calendar inPast = (Calendar) TODAY.clone();
+        inPast.set(Calendar.YEAR, 2019);
+        Calendar inFuture = (Calendar) TODAY.clone();
+        inFuture.set(Calendar.YEAR, 2050);
+        Task pastTask = new Task("Past", "", inPast);
+        Task futureTask = new Task("Future", "", inFuture);
+
+        tasks.addItem(TASK_ONE);
+        tasks.addItem(futureTask);
+        tasks.addItem(pastTask);
+        tasks.addItem(TASK_TWO);
+        assertEquals(4, tasks.length());
+        assertEquals(pastTask, tasks.getItem(0));
+        assertEquals(TASK_ONE, tasks.getItem(1));
+        assertEquals(TASK_TWO, tasks.getItem(2));
+        assertEquals(futureTask, tasks.getItem(3));
+    }
+
+    @Test
+    void testAddAllEmpty() {
+        tasks.addAll(new ArrayList<>());
+        assertEquals(0, tasks.length());
+    }
+
+    @Test
+    void testAddAllMergesWithExisting() {
+        Calendar inPast = (Calendar) TODAY.clone();
+        inPast.set(Calendar.YEAR, 2019);
+        Calendar inFuture = (Calendar) TODAY.clone();
+        inFuture.set(Calendar.YEAR, 2050);
+        Task pastTask = new Task("Past", "", inPast);
+        Task futureTask = new Task("Future", "", inFuture);
+        tasks.addItem(TASK_ONE);
+
+        ArrayList<Task> batch = new ArrayList<>();
+        batch.add(futureTask);
+        batch.add(TASK_TWO);
+        batch.add(pastTask);
+        tasks.addAll(batch);
+        assertEquals(4, tasks.length());
+        assertEquals(pastTask, tasks.getItem(0));
+        assertEquals(TASK_ONE, tasks.getItem(1));
+        assertEquals(TASK_TWO, tasks.getItem(2));
+        assertEquals(futureTask, tasks.getItem(3));
+    }
+
     @Test
     void testRemoveItem() {
         tasks.addItem(TASK_ONE);
@@ -75,4 +131,194 @@ class ScheduledListTest {
         assertEquals(1, tasks.length());
         assertEquals(0, tasks.listToday().length());
     }
-}
\ No newline at end of file
+
+    @Test
+    void testListOverlapping() {
+        Calendar inPast = (Calendar) TODAY.clone();
+        inPast.set(Calendar.YEAR, 2019);
+        Task pastTask = new Task("Past", "", inPast);
+        tasks.addItem(TASK_ONE);
+        tasks.addItem(pastTask);
+
+        Calendar from = (Calendar) TODAY.clone();
+        from.add(Calendar.MINUTE, -1);
+        Calendar to = (Calendar) TODAY.clone();
+        to.add(Calendar.MINUTE, 1);
+        ScheduledList<Task> overlapping = tasks.listOverlapping(from, to);
+        assertEquals(1, overlapping.length());
+        assertEquals(TASK_ONE, overlapping.getItem(0));
+        assertEquals(2, tasks.listOverlapping(inPast, to).length());
+    }
+
+    @Test
+    void testConflictsWith() {
+        tasks.addItem(TASK_ONE);
+        assertFalse(tasks.conflictsWith(TASK_ONE));
+        assertTrue(tasks.conflictsWith(TASK_TWO));
+        tasks.removeItem(TASK_ONE);
+        assertFalse(tasks.conflictsWith(TASK_TWO));
+    }
+
+    @Test
+    void testListOnDay() {
+        Calendar inPast = (Calendar) TODAY.clone();
+        inPast.set(Calendar.YEAR, 2019);
+        Task pastTask = new Task("Past", "", inPast);
+        Task otherPastTask = new Task("Other past", "", inPast);
+        tasks.addItem(TASK_ONE);
+        tasks.addItem(pastTask);
+        tasks.addItem(otherPastTask);
+        assertEquals(2, tasks.listOnDay(inPast).length());
+        assertEquals(pastTask, tasks.listOnDay(inPast).getItem(0));
+
+        tasks.removeItem(pastTask);
+        assertEquals(1, tasks.listOnDay(inPast).length());
+        assertEquals(otherPastTask, tasks.listOnDay(inPast).getItem(0));
+        tasks.removeItem(otherPastTask);
+        assertEquals(0, tasks.listOnDay(inPast).length());
+        assertEquals(1, tasks.listOnDay(TODAY).length());
+    }
+
+    @Test
+    void testListOnDayAfterClockChangesZone() {
+        TimeZone east = TimeZone.getTimeZone("Pacific/Kiritimati");
+        TimeZone west = TimeZone.getTimeZone("Etc/GMT+12");
+        PlannerClock.setCurrent(new PlannerClock(east));
+        Calendar due = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+        due.clear();
+        due.set(2020, Calendar.JUNE, 15, 0, 30);
+        Task task = new Task("Task", "", due);
+        tasks.addItem(task);
+        assertEquals(1, tasks.listOnDay(noonOn(east, Calendar.JUNE, 15)).length());
+
+        PlannerClock.setCurrent(new PlannerClock(west));
+        assertEquals(0, tasks.listOnDay(noonOn(west, Calendar.JUNE, 15)).length());
+        assertEquals(task, tasks.listOnDay(noonOn(west, Calendar.JUNE, 14)).getItem(0));
+        tasks.removeItem(task);
+        assertEquals(0, tasks.listOnDay(noonOn(west, Calendar.JUNE, 14)).length());
+    }
+
+    @Test
+    void testTaskWithoutDueDateOnNoDay() {
+        TimeZone west = TimeZone.getTimeZone("Etc/GMT+12");
+        PlannerClock.setCurrent(new PlannerClock(west));
+        Task someday = new Task();
+        someday.setName("Someday");
+        tasks.addItem(someday);
+        tasks.addItem(new Task("Today", "", Calendar.getInstance(west)));
+        assertEquals(2, tasks.length());
+        assertEquals(1, tasks.listToday().length());
+        assertFalse(isListedOn(someday, Long.MAX_VALUE, west));
+        assertFalse(isListedOn(someday, Long.MIN_VALUE, west));
+        assertFalse(isListedOn(someday, 0, west));
+
+        TimeZone east = TimeZone.getTimeZone("Pacific/Kiritimati");
+        PlannerClock.setCurrent(new PlannerClock(east));
+        assertFalse(isListedOn(someday, Long.MAX_VALUE, east));
+        assertFalse(isListedOn(someday, Long.MIN_VALUE, east));
+        tasks.removeItem(someday);
+        assertEquals(1, tasks.length());
+        assertEquals(1, tasks.listToday().length());
+    }
+
+    // EFFECTS: returns true if the given task is listed on the day of the given time in the
+    //          given time zone
+    private boolean isListedOn(Task task, long millis, TimeZone zone) {
+        Calendar date = Calendar.getInstance(zone);
+        date.setTimeInMillis(millis);
+        ScheduledList<Task> day = tasks.listOnDay(date);
+        for (int i = 0; i < day.length(); i++) {
+            if (day.getItem(i) == task) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // EFFECTS: returns noon on the given day of 2020 in the given time zone
+    private Calendar noonOn(TimeZone zone, int month, int day) {
+        Calendar date = Calendar.getInstance(zone);
+        date.clear();
+        date.set(2020, month, day, 12, 0);
+        return date;
+    }
+
+    @Test
+    void testListTodayAfterAddAll() {
+        Calendar inPast = (Calendar) TODAY.clone();
+        inPast.set(Calendar.YEAR, 2019);
+        ArrayList<Task> batch = new ArrayList<>();
+        batch.add(TASK_TWO);
+        batch.add(new Task("Past", "", inPast));
+        batch.add(TASK_ONE);
+        tasks.addAll(batch);
+        assertEquals(2, tasks.listToday().length());
+        assertEquals(TASK_TWO, tasks.listToday().getItem(0));
+        assertEquals(1, tasks.listOnDay(inPast).length());
+    }
+
+    @Test
+    void testObserverToldOfAddAndRemove() {
+        ArrayList<PlannerEvent> events = new ArrayList<>();
+        tasks.addObserver(events::add);
+        Calendar inPast = (Calendar) TODAY.clone();
+        inPast.set(Calendar.YEAR, 2019);
+        Task today = new Task("Today", "", TODAY);
+        Task past = new Task("Past", "", inPast);
+        tasks.addItem(today);
+        tasks.addItem(past);
+        tasks.removeItem(today);
+
+        assertEquals(3, events.size());
+        assertEquals(PlannerEvent.Kind.ADD, events.get(0).getKind());
+        assertEquals("tasks", events.get(0).getSection());
+        assertEquals(0, events.get(0).getIndex());
+        assertEquals(past, events.get(1).getItem());
+        assertEquals(0, events.get(1).getIndex());
+        assertEquals(PlannerEvent.Kind.REMOVE, events.get(2).getKind());
+        assertEquals(today, events.get(2).getItem());
+        assertEquals(1, events.get(2).getIndex());
+    }
+
+    @Test
+    void testObserverToldOfItemChanges() {
+        ArrayList<PlannerEvent> events = new ArrayList<>();
+        Task first = new Task("First", "", TODAY);
+        Task second = new Task("Second", "", TODAY);
+        tasks.addItem(first);
+        tasks.addItem(second);
+        tasks.addObserver(events::add);
+
+        tasks.listToday().getItem(1).toggleCompletion();
+        assertEquals(1, events.size());
+        assertEquals(PlannerEvent.Kind.TOGGLE, events.get(0).getKind());
+        assertEquals("tasks", events.get(0).getSection());
+        assertEquals(1, events.get(0).getIndex());
+
+        tasks.removeItem(second);
+        second.toggleCompletion();
+        assertEquals(2, events.size());
+    }
+
+    @Test
+    void testDirtyTracking() {
+        assertFalse(tasks.isDirty());
+        Task task = new Task("Dirty", "", TODAY);
+        tasks.addItem(task);
+        assertTrue(tasks.isDirty());
+        tasks.markClean();
+        assertFalse(tasks.isDirty());
+
+        task.toggleCompletion();
+        assertTrue(tasks.isDirty());
+        tasks.markClean();
+        tasks.listToday();
+        assertFalse(tasks.isDirty());
+
+        tasks.removeItem(task);
+        assertTrue(tasks.isDirty());
+        tasks.markClean();
+        tasks.addAll(new ArrayList<>());
+        assertFalse(tasks.isDirty());
+    }
+}
@@ -39,6 +39,21 @@ class TaskTest {
         assertEquals(TODAY, task.getDue());
     }
 
+    @Test
+    void testNoDueDateSortsFirst() {
+        Task blank = new Task();
+        assertEquals(Long.MIN_VALUE, blank.getStartMillis());
+        assertTrue(blank.compareTo(task) < 0);
+        assertTrue(task.compareTo(blank) > 0);
+        assertFalse(blank.isToday());
+
+        ScheduledList<Task> tasks = new ScheduledList<>("tasks");
+        tasks.addItem(task);
+        tasks.addItem(blank);
+        assertEquals(blank, tasks.getItem(0));
+        assertNull(new Task(blank).getDue());
+    }
+
     @Test
     void testToggleCompletion() {
         assertFalse(task.isComplete());
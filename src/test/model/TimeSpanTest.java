@@ -0,0 +1,95 @@
+package model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Calendar;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Unit tests for TimeSpan class
+class TimeSpanTest {
+    static Calendar TODAY = Calendar.getInstance();
+    static int HOUR = 2;
+    static int MINUTE = 30;
+    TimeSpan span;
+
+    @BeforeEach
+    void runBefore() {
+        TODAY.set(2020, Calendar.OCTOBER, 1, 9, 15, 42);
+        TODAY.set(Calendar.MILLISECOND, 500);
+        span = TimeSpan.of(TODAY, HOUR, MINUTE);
+    }
+
+    @Test
+    void testOfDropsSeconds() {
+        Calendar expected = (Calendar) TODAY.clone();
+        expected.set(Calendar.SECOND, 0);
+        expected.set(Calendar.MILLISECOND, 0);
+        assertEquals(expected.getTimeInMillis(), span.getStart());
+        expected.add(Calendar.HOUR_OF_DAY, HOUR);
+        expected.add(Calendar.MINUTE, MINUTE);
+        assertEquals(expected.getTimeInMillis(), span.getEnd());
+        assertEquals(HOUR, span.getHours());
+        assertEquals(MINUTE, span.getMinutes());
+    }
+
+    @Test
+    void testWholeDay() {
+        TimeSpan day = TimeSpan.wholeDay(TODAY);
+        Calendar midnight = TimeSpan.toCalendar(day.getStart());
+        assertEquals(0, midnight.get(Calendar.HOUR_OF_DAY));
+        assertEquals(0, midnight.get(Calendar.MINUTE));
+        assertEquals(TODAY.get(Calendar.DAY_OF_YEAR), midnight.get(Calendar.DAY_OF_YEAR));
+        assertEquals(23, day.getHours());
+        assertEquals(59, day.getMinutes());
+        assertTrue(day.during(TODAY.getTimeInMillis()));
+    }
+
+    @Test
+    void testToCalendar() {
+        assertEquals(TODAY, TimeSpan.toCalendar(TODAY.getTimeInMillis()));
+    }
+
+    @Test
+    void testWithStartKeepsLength() {
+        TimeSpan moved = span.withStart(span.getStart() + TimeSpan.MILLIS_PER_HOUR);
+        assertEquals(span.getStart() + TimeSpan.MILLIS_PER_HOUR, moved.getStart());
+        assertEquals(HOUR, moved.getHours());
+        assertEquals(MINUTE, moved.getMinutes());
+    }
+
+    @Test
+    void testWithLength() {
+        TimeSpan longer = span.withLength(5, 15);
+        assertEquals(span.getStart(), longer.getStart());
+        assertEquals(5, longer.getHours());
+        assertEquals(15, longer.getMinutes());
+    }
+
+    @Test
+    void testBeforeDuringAfter() {
+        assertTrue(span.before(span.getEnd()));
+        assertFalse(span.before(span.getEnd() - 1));
+        assertTrue(span.during(span.getStart()));
+        assertTrue(span.during(span.getEnd()));
+        assertFalse(span.during(span.getEnd() + 1));
+        assertTrue(span.after(span.getStart()));
+        assertFalse(span.after(span.getStart() + 1));
+    }
+
+    @Test
+    void testOverlaps() {
+        assertTrue(span.overlaps(span.getStart() - 1, span.getStart() + 1));
+        assertFalse(span.overlaps(span.getEnd(), span.getEnd() + 1));
+        assertFalse(span.overlaps(span.getStart() - 1, span.getStart()));
+    }
+
+    @Test
+    void testEquals() {
+        assertEquals(span, TimeSpan.of(TODAY, HOUR, MINUTE));
+        assertEquals(span.hashCode(), TimeSpan.of(TODAY, HOUR, MINUTE).hashCode());
+        assertNotEquals(span, span.withLength(1, 0));
+        assertNotEquals(span, null);
+    }
+}
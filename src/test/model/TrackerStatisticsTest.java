@@ -0,0 +1,124 @@
+package model;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Calendar;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Unit tests for TrackerStatistics class
+class TrackerStatisticsTest {
+    static Calendar TODAY = Calendar.getInstance();
+    Tracker tracker;
+
+    @BeforeEach
+    void runBefore() {
+        TODAY.set(2020, Calendar.OCTOBER, 10, 12, 0, 0);
+        TODAY.set(Calendar.MILLISECOND, 0);
+        PlannerClock.setCurrent(PlannerClock.fixedAt(TODAY.getTimeInMillis()));
+        tracker = new Tracker("Test Tracker");
+    }
+
+    @AfterEach
+    void runAfter() {
+        PlannerClock.setCurrent(new PlannerClock());
+    }
+
+    @Test
+    void testEmpty() {
+        TrackerStatistics stats = tracker.getStatistics();
+        assertEquals(0, stats.getCompletedDays());
+        assertEquals(0, stats.getCurrentStreak());
+        assertEquals(0, stats.getLongestStreak());
+        assertEquals(0, stats.getCompletionRate());
+    }
+
+    @Test
+    void testMarkDoneStartsStreak() {
+        tracker.markDone();
+        tracker.markDone();
+        TrackerStatistics stats = tracker.getStatistics();
+        assertEquals(1, stats.getCompletedDays());
+        assertEquals(1, stats.getCurrentStreak());
+        assertEquals(1, stats.getLongestStreak());
+        assertEquals(1, stats.getCompletionRate());
+    }
+
+    @Test
+    void testStreaksAcrossDays() {
+        tracker.addToTracker(daysAgo(6));
+        tracker.addToTracker(daysAgo(5));
+        tracker.addToTracker(daysAgo(4));
+        tracker.addToTracker(daysAgo(1));
+        TrackerStatistics stats = tracker.getStatistics();
+        assertEquals(4, stats.getCompletedDays());
+        assertEquals(1, stats.getCurrentStreak());
+        assertEquals(3, stats.getLongestStreak());
+        assertEquals(4.0 / 7, stats.getCompletionRate());
+    }
+
+    @Test
+    void testAddingMissingDayJoinsStreaks() {
+        tracker.addToTracker(daysAgo(3));
+        tracker.addToTracker(daysAgo(1));
+        tracker.markDone();
+        assertEquals(2, tracker.getStatistics().getLongestStreak());
+        tracker.addToTracker(daysAgo(2));
+        assertEquals(4, tracker.getStatistics().getLongestStreak());
+        assertEquals(4, tracker.getStatistics().getCurrentStreak());
+    }
+
+    @Test
+    void testBrokenStreak() {
+        tracker.addToTracker(daysAgo(3));
+        tracker.addToTracker(daysAgo(2));
+        assertEquals(0, tracker.getStatistics().getCurrentStreak());
+        assertEquals(2, tracker.getStatistics().getLongestStreak());
+    }
+
+    @Test
+    void testUnmarkDone() {
+        tracker.addToTracker(daysAgo(1));
+        tracker.markDone();
+        tracker.markDone();
+        assertEquals(2, tracker.getStatistics().getCurrentStreak());
+        tracker.unmarkDone();
+        assertEquals(2, tracker.getStatistics().getCurrentStreak());
+        tracker.unmarkDone();
+        assertEquals(1, tracker.getStatistics().getCurrentStreak());
+        assertEquals(1, tracker.getStatistics().getCompletedDays());
+        tracker.unmarkDone();
+        assertEquals(0, tracker.getStatistics().getCompletedDays());
+        assertEquals(0, tracker.getStatistics().getLongestStreak());
+    }
+
+    @Test
+    void testLoadHistoryRebuilds() {
+        tracker.loadHistory(new long[] {daysAgo(0), daysAgo(9), daysAgo(1), daysAgo(8), daysAgo(7), daysAgo(7)});
+        TrackerStatistics stats = tracker.getStatistics();
+        assertEquals(6, tracker.length());
+        assertEquals(5, stats.getCompletedDays());
+        assertEquals(2, stats.getCurrentStreak());
+        assertEquals(3, stats.getLongestStreak());
+        assertEquals(0.5, stats.getCompletionRate());
+        tracker.addToTracker(daysAgo(2));
+        assertEquals(3, stats.getCurrentStreak());
+    }
+
+    @Test
+    void testLoadHistoryEmpty() {
+        tracker.markDone();
+        tracker.loadHistory(new long[0]);
+        assertEquals(0, tracker.length());
+        assertEquals(0, tracker.getStatistics().getCompletedDays());
+    }
+
+    // EFFECTS: returns the time the given number of days before TODAY in milliseconds
+    private long daysAgo(int days) {
+        Calendar date = (Calendar) TODAY.clone();
+        date.add(Calendar.DAY_OF_MONTH, -days);
+        return date.getTimeInMillis();
+    }
+}
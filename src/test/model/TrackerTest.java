@@ -1,9 +1,11 @@
 package model;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.Calendar;
+import java.util.TimeZone;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -19,6 +21,19 @@ class TrackerTest {
         IN_PAST.set(Calendar.YEAR, 2019);
     }
 
+    @AfterEach
+    void runAfterEach() {
+        PlannerClock.setCurrent(new PlannerClock());
+    }
+
+    // EFFECTS: returns the given time on the given day of January 2026 in the given time zone
+    Calendar januaryAt(TimeZone zone, int day, int hour, int minute) {
+        Calendar date = Calendar.getInstance(zone);
+        date.clear();
+        date.set(2026, Calendar.JANUARY, day, hour, minute);
+        return date;
+    }
+
     @Test
     void testAddToTrackerEmpty() {
         assertEquals(0, tracker.length());
@@ -120,4 +135,147 @@ class TrackerTest {
         assertEquals(0, tracker.length());
         assertNull(tracker.getLastElement());
     }
-}
\ No newline at end of file
+
+    @Test
+    void testAddToTrackerOutOfOrder() {
+        tracker.addToTracker(TODAY);
+        tracker.addToTracker(IN_PAST);
+        for (int i = 0; i < 10; i++) {
+            tracker.addToTracker(IN_PAST.getTimeInMillis() + i);
+        }
+        assertEquals(12, tracker.length());
+        assertEquals(IN_PAST.getTimeInMillis(), tracker.getTime(0));
+        assertEquals(TODAY.getTimeInMillis(), tracker.getTime(11));
+        assertEquals(TODAY, tracker.getLastElement());
+        assertTrue(tracker.contains(IN_PAST));
+        assertTrue(tracker.isDoneToday());
+    }
+
+    @Test
+    void testContainsNotAdded() {
+        tracker.addToTracker(IN_PAST);
+        assertFalse(tracker.contains(TODAY));
+    }
+
+    @Test
+    void testIsDoneOn() {
+        tracker.addToTracker(IN_PAST);
+        assertTrue(tracker.isDoneOn(IN_PAST));
+        assertFalse(tracker.isDoneOn(TODAY));
+        tracker.markDone();
+        assertTrue(tracker.isDoneOn(TODAY));
+        tracker.unmarkDone();
+        assertFalse(tracker.isDoneOn(TODAY));
+        assertEquals(1, tracker.getDayBitmap().cardinality());
+    }
+
+    @Test
+    void testIsDoneOnAfterClockChangesZone() {
+        TimeZone utc = TimeZone.getTimeZone("UTC");
+        TimeZone tokyo = TimeZone.getTimeZone("Asia/Tokyo");
+        PlannerClock.setCurrent(new PlannerClock(utc));
+        tracker.addToTracker(januaryAt(utc, 10, 23, 30));
+        assertTrue(tracker.isDoneOn(januaryAt(utc, 10, 12, 0)));
+
+        PlannerClock.setCurrent(new PlannerClock(tokyo));
+        assertTrue(tracker.isDoneOn(januaryAt(tokyo, 11, 12, 0)));
+        assertFalse(tracker.isDoneOn(januaryAt(tokyo, 10, 12, 0)));
+        assertEquals(1, tracker.daysDoneInMonth(januaryAt(tokyo, 1, 12, 0)));
+        tracker.unmarkDone();
+        assertFalse(tracker.isDoneOn(januaryAt(tokyo, 11, 12, 0)));
+        assertEquals(0, tracker.getDayBitmap().cardinality());
+    }
+
+    @Test
+    void testStatisticsAfterClockChangesZone() {
+        TimeZone utc = TimeZone.getTimeZone("UTC");
+        TimeZone tokyo = TimeZone.getTimeZone("Asia/Tokyo");
+        PlannerClock.setCurrent(new PlannerClock(utc));
+        tracker.addToTracker(januaryAt(utc, 10, 23, 30));
+        tracker.addToTracker(januaryAt(utc, 11, 12, 0));
+        assertEquals(2, tracker.getStatistics().getCompletedDays());
+        assertEquals(2, tracker.getStatistics().getLongestStreak());
+
+        PlannerClock.setCurrent(new PlannerClock(tokyo));
+        assertEquals(1, tracker.getStatistics().getCompletedDays());
+        assertEquals(1, tracker.getStatistics().getLongestStreak());
+        tracker.addToTracker(januaryAt(tokyo, 12, 9, 0));
+        assertEquals(2, tracker.getStatistics().getLongestStreak());
+    }
+
+    @Test
+    void testDaysDoneInMonth() {
+        Calendar first = (Calendar) IN_PAST.clone();
+        first.set(Calendar.DAY_OF_MONTH, 1);
+        Calendar second = (Calendar) first.clone();
+        second.add(Calendar.DAY_OF_MONTH, 1);
+        Calendar nextMonth = (Calendar) first.clone();
+        nextMonth.add(Calendar.MONTH, 1);
+        tracker.loadHistory(new long[] {first.getTimeInMillis(), second.getTimeInMillis(),
+            second.getTimeInMillis(), nextMonth.getTimeInMillis()});
+        assertEquals(2, tracker.daysDoneInMonth(first));
+        assertEquals(1, tracker.daysDoneInMonth(nextMonth));
+        assertTrue(tracker.isDoneOn(second));
+    }
+
+    @Test
+    void testLazyHistoryLoadedOnlyWhenNeeded() {
+        long past = IN_PAST.getTimeInMillis();
+        long now = TODAY.getTimeInMillis();
+        int[] fetches = {0};
+        Tracker lazy = new Tracker("Lazy", 2, now, () -> {
+            fetches[0]++;
+            return new long[] {past, now};
+        });
+
+        assertEquals(2, lazy.length());
+        assertTrue(lazy.isDoneToday());
+        assertEquals(now, lazy.getLastElement().getTimeInMillis());
+        assertFalse(lazy.isHistoryLoaded());
+        assertEquals(0, fetches[0]);
+
+        assertTrue(lazy.contains(IN_PAST));
+        assertTrue(lazy.isHistoryLoaded());
+        assertEquals(past, lazy.getTime(0));
+        lazy.unmarkDone();
+        assertEquals(1, lazy.length());
+        assertEquals(1, fetches[0]);
+    }
+
+    @Test
+    void testLazyHistoryLoadedBeforeChange() {
+        long past = IN_PAST.getTimeInMillis();
+        Tracker lazy = new Tracker("Lazy", 1, past, () -> new long[] {past});
+        lazy.addToTracker(TODAY);
+        assertTrue(lazy.isHistoryLoaded());
+        assertEquals(2, lazy.length());
+        assertEquals(2, lazy.getStatistics().getCompletedDays());
+    }
+
+    @Test
+    void testCopyIndependentOfOriginal() {
+        tracker.addToTracker(IN_PAST);
+        Tracker copy = new Tracker(tracker);
+        tracker.addToTracker(TODAY);
+        assertEquals(1, copy.length());
+        assertEquals("Test Tracker", copy.getName());
+        assertEquals(IN_PAST.getTimeInMillis(), copy.getLastElement().getTimeInMillis());
+        assertEquals(IN_PAST.getTimeInMillis(), copy.getTime(0));
+    }
+
+    @Test
+    void testCopyKeepsHistoryPending() {
+        long past = IN_PAST.getTimeInMillis();
+        int[] fetches = {0};
+        Tracker lazy = new Tracker("Lazy", 1, past, () -> {
+            fetches[0]++;
+            return new long[] {past};
+        });
+        Tracker copy = new Tracker(lazy);
+        assertFalse(copy.isHistoryLoaded());
+        assertFalse(lazy.isHistoryLoaded());
+        assertEquals(0, fetches[0]);
+        assertTrue(copy.toJson().similar(lazy.toJson()));
+        assertEquals(2, fetches[0]);
+    }
+}
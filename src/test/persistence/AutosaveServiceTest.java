@@ -0,0 +1,153 @@
+package persistence;
+
+import model.Planner;
+import model.Task;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Unit tests for AutosaveService class
+class AutosaveServiceTest {
+    static final long DELAY = 200;
+    static final long MAX_DELAY = 600;
+    File dir;
+    String snapshotFile;
+    String journalFile;
+    Journal journal;
+    Planner planner;
+    ExecutorService model;
+    List<Integer> saves;
+
+    @BeforeEach
+    void runBefore() throws IOException {
+        dir = Files.createTempDirectory("autosave").toFile();
+        snapshotFile = new File(dir, "planner.json").getPath();
+        journalFile = new File(dir, "planner.journal").getPath();
+        journal = new Journal(snapshotFile, journalFile, 1000, 0);
+        planner = new Planner();
+        journal.attach(planner);
+        journal.commit();
+        model = Executors.newSingleThreadExecutor();
+        saves = new ArrayList<>();
+    }
+
+    @AfterEach
+    void runAfter() {
+        model.shutdownNow();
+        for (File file : dir.listFiles()) {
+            file.delete();
+        }
+        dir.delete();
+    }
+
+    AutosaveService service(long delay, long maxDelay) {
+        return new AutosaveService(journal, model, delay, maxDelay, new AutosaveService.Listener() {
+            @Override
+            public void saved(long latencyMillis, int records, boolean snapshot) {
+                synchronized (saves) {
+                    saves.add(records);
+                }
+            }
+
+            @Override
+            public void failed(IOException e) {
+                fail(e);
+            }
+        });
+    }
+
+    void addTask(String name) throws Exception {
+        model.submit(() -> planner.getTasks().addItem(new Task(name, "", Calendar.getInstance()))).get();
+    }
+
+    List<Integer> savesSoFar() {
+        synchronized (saves) {
+            return new ArrayList<>(saves);
+        }
+    }
+
+    int recoveredTasks() throws IOException {
+        return new Journal(snapshotFile, journalFile, 1000, 0).recover().getTasks().length();
+    }
+
+    @Test
+    void testBurstSavedOnceAfterDelay() throws Exception {
+        AutosaveService autosave = service(DELAY, 10 * DELAY);
+        autosave.setEnabled(true);
+        for (int i = 0; i < 4; i++) {
+            addTask("Task " + i);
+            Thread.sleep(DELAY / 4);
+        }
+        assertTrue(savesSoFar().isEmpty());
+        Thread.sleep(DELAY * 4);
+        assertEquals(1, savesSoFar().size());
+        assertEquals(4, (int) savesSoFar().get(0));
+        assertEquals(4, recoveredTasks());
+    }
+
+    @Test
+    void testSavedByMaxDelayWhileChangesKeepComing() throws Exception {
+        AutosaveService autosave = service(DELAY, MAX_DELAY);
+        autosave.setEnabled(true);
+        long start = System.currentTimeMillis();
+        int changes = 0;
+        while (System.currentTimeMillis() - start < 3 * MAX_DELAY) {
+            addTask("Task " + changes++);
+            Thread.sleep(DELAY / 4);
+        }
+        assertTrue(savesSoFar().size() >= 2);
+        Thread.sleep(DELAY * 4);
+        int saved = 0;
+        for (int records : savesSoFar()) {
+            saved += records;
+        }
+        assertEquals(changes, saved);
+    }
+
+    @Test
+    void testNothingSavedWhileDisabled() throws Exception {
+        AutosaveService autosave = service(DELAY, MAX_DELAY);
+        addTask("Task");
+        Thread.sleep(DELAY * 2);
+        assertTrue(savesSoFar().isEmpty());
+        assertTrue(journal.hasPendingChanges());
+
+        autosave.setEnabled(true);
+        Thread.sleep(DELAY * 4);
+        assertEquals(1, savesSoFar().size());
+    }
+
+    @Test
+    void testCloseSavesPendingChanges() throws Exception {
+        AutosaveService autosave = service(60000, 60000);
+        autosave.setEnabled(true);
+        for (int i = 0; i < 3; i++) {
+            addTask("Task " + i);
+        }
+        model.submit(() -> autosave.close(5000)).get(10, TimeUnit.SECONDS);
+        assertEquals(1, savesSoFar().size());
+        assertEquals(3, recoveredTasks());
+    }
+
+    @Test
+    void testSaveNow() throws Exception {
+        AutosaveService autosave = service(60000, 60000);
+        autosave.setEnabled(true);
+        addTask("Task");
+        autosave.saveNow().get(5, TimeUnit.SECONDS);
+        assertEquals(1, recoveredTasks());
+        assertFalse(journal.hasPendingChanges());
+    }
+}
@@ -0,0 +1,144 @@
+package persistence;
+
+import model.Appointment;
+import model.Planner;
+import model.Task;
+import model.Tracker;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Calendar;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Unit tests for BinaryLoader class
+class BinaryLoaderTest {
+    static final long DAY = 24 * 60 * 60 * 1000L;
+    File dir;
+    String jsonFile;
+    String binaryFile;
+    Planner planner;
+
+    @BeforeEach
+    void runBefore() throws IOException {
+        dir = Files.createTempDirectory("binary").toFile();
+        jsonFile = new File(dir, "planner.json").getPath();
+        binaryFile = new File(dir, "planner.bin").getPath();
+        planner = new Planner();
+        Calendar date = Calendar.getInstance();
+        date.setTimeInMillis(1600000000000L);
+        planner.getAppointments().addItem(new Appointment("Dentist", "Checkup", date, 1, 30));
+        planner.getTasks().addItem(new Task("Essay", "\u00e9t\u00e9 draft", date));
+        planner.getTasks().getItem(0).toggleCompletion();
+        Tracker tracker = new Tracker("Run");
+        for (int i = 0; i < 100; i++) {
+            tracker.addToTracker(1500000000000L + i * 3 * DAY);
+        }
+        planner.getHabits().addTracker(tracker);
+        planner.getHabits().addTracker(new Tracker("Read"));
+        JsonSaver saver = new JsonSaver(jsonFile, true);
+        saver.open();
+        saver.save(planner.getAppointments(), planner.getTasks(), planner.getHabits());
+        saver.close();
+        SnapshotConverter.jsonToBinary(jsonFile, binaryFile);
+    }
+
+    @AfterEach
+    void runAfter() {
+        for (File file : dir.listFiles()) {
+            file.delete();
+        }
+        dir.delete();
+    }
+
+    void assertSamePlanner(Planner expected, Planner actual) {
+        assertTrue(expected.getAppointments().toJson().similar(actual.getAppointments().toJson()));
+        assertTrue(expected.getTasks().toJson().similar(actual.getTasks().toJson()));
+        assertTrue(expected.getHabits().toJson().similar(actual.getHabits().toJson()));
+    }
+
+    void writeBinary(byte[] bytes) throws IOException {
+        try (OutputStream out = Files.newOutputStream(new File(binaryFile).toPath())) {
+            out.write(bytes);
+        }
+    }
+
+    @Test
+    void testJsonBinaryJsonRoundTrip() throws IOException {
+        String roundTrip = new File(dir, "round.json").getPath();
+        SnapshotConverter.binaryToJson(binaryFile, roundTrip);
+        assertSamePlanner(planner, new JsonStreamLoader(roundTrip).loadAll());
+        assertArrayEquals(Files.readAllBytes(new File(jsonFile).toPath()),
+                Files.readAllBytes(new File(roundTrip).toPath()));
+    }
+
+    @Test
+    void testEagerLoad() throws IOException {
+        Planner loaded = new BinaryLoader(binaryFile).loadAll();
+        assertTrue(loaded.getHabits().getTracker(0).isHistoryLoaded());
+        assertSamePlanner(planner, loaded);
+    }
+
+    @Test
+    void testLazyLoad() throws IOException {
+        Planner loaded = new BinaryLoader(binaryFile, true).loadAll();
+        Tracker tracker = loaded.getHabits().getTracker(0);
+        assertFalse(tracker.isHistoryLoaded());
+        assertEquals(100, tracker.length());
+        assertSamePlanner(planner, loaded);
+        assertTrue(tracker.isHistoryLoaded());
+    }
+
+    @Test
+    void testTruncated() throws IOException {
+        byte[] bytes = Files.readAllBytes(new File(binaryFile).toPath());
+        for (int length = 0; length < bytes.length; length++) {
+            writeBinary(Arrays.copyOf(bytes, length));
+            assertThrows(IOException.class, () -> new BinaryLoader(binaryFile).loadAll());
+            assertThrows(IOException.class, () -> new BinaryLoader(binaryFile, true).loadAll());
+        }
+    }
+
+    @Test
+    void testNotPlannerFile() throws IOException {
+        writeBinary("{\"saved schedule\": []}".getBytes());
+        assertThrows(IOException.class, () -> new BinaryLoader(binaryFile).loadAll());
+    }
+
+    @Test
+    void testNegativeCount() throws IOException {
+        BinaryWriter out = new BinaryWriter();
+        BinaryWriter record = new BinaryWriter();
+        BinaryFormat.writeHeader(out);
+        out.writeVarLong(0);
+        out.writeVarLong(0);
+        out.writeVarLong(1);
+        record.writeString("Run");
+        record.writeVarLong(-1);
+        out.writeRecord(record);
+        writeBinary(out.toByteArray());
+        assertThrows(IOException.class, () -> new BinaryLoader(binaryFile).loadAll());
+        assertThrows(IOException.class, () -> new BinaryLoader(binaryFile, true).loadAll());
+    }
+
+    @Test
+    void testCorruptBytes() throws IOException {
+        byte[] bytes = Files.readAllBytes(new File(binaryFile).toPath());
+        for (int i = 0; i < bytes.length; i++) {
+            byte[] corrupt = bytes.clone();
+            corrupt[i] ^= (byte) 0xFF;
+            writeBinary(corrupt);
+            try {
+                new BinaryLoader(binaryFile).loadAll();
+            } catch (IOException e) {
+                assertTrue(e.getMessage().contains("planner file"));
+            }
+        }
+    }
+}
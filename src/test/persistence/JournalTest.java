@@ -0,0 +1,229 @@
+package persistence;
+
+import model.Planner;
+import model.Task;
+import model.Tracker;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Calendar;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Unit tests for Journal class
+class JournalTest {
+    static final int COMPACT_AFTER = 4;
+    File dir;
+    String snapshotFile;
+    String journalFile;
+    Journal journal;
+    Planner planner;
+
+    @BeforeEach
+    void runBefore() throws IOException {
+        dir = Files.createTempDirectory("journal").toFile();
+        snapshotFile = new File(dir, "planner.json").getPath();
+        journalFile = new File(dir, "planner.journal").getPath();
+        journal = new Journal(snapshotFile, journalFile, COMPACT_AFTER, 0);
+        planner = new Planner();
+        journal.attach(planner);
+    }
+
+    @AfterEach
+    void runAfter() {
+        for (File file : dir.listFiles()) {
+            file.delete();
+        }
+        dir.delete();
+    }
+
+    Task task(String name) {
+        return new Task(name, "", Calendar.getInstance());
+    }
+
+    Planner reopen() throws IOException {
+        return new Journal(snapshotFile, journalFile, COMPACT_AFTER, 0).recover();
+    }
+
+    List<String> journalLines() throws IOException {
+        return Files.readAllLines(new File(journalFile).toPath(), StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void testSnapshotAndRecordsRoundTrip() throws IOException {
+        planner.getTasks().addItem(task("First"));
+        journal.commit();
+        assertEquals(1, journalLines().size());
+
+        planner.getTasks().addItem(task("Second"));
+        planner.getTasks().getItem(0).toggleCompletion();
+        Tracker tracker = new Tracker("Run");
+        planner.getHabits().addTracker(tracker);
+        Journal.PendingWrite write = journal.takeCommit();
+        assertFalse(write.isSnapshot());
+        assertEquals(3, write.getRecords());
+        write.write();
+        assertEquals(4, journalLines().size());
+
+        Planner recovered = reopen();
+        assertEquals(2, recovered.getTasks().length());
+        assertEquals(1, countComplete(recovered));
+        assertEquals("Run", recovered.getHabits().getTracker(0).getName());
+    }
+
+    @Test
+    void testRecoverWithoutFilesThrows() {
+        planner.getTasks().addItem(task("Unsaved"));
+        assertThrows(NoSuchFileException.class, journal::recover);
+        assertEquals(1, planner.getTasks().length());
+    }
+
+    @Test
+    void testTornLastRecordDropped() throws IOException {
+        planner.getTasks().addItem(task("First"));
+        journal.commit();
+        planner.getTasks().addItem(task("Second"));
+        journal.commit();
+        String torn = "A\ttasks\t0\t{\"name\":\"Torn\"";
+        Files.write(new File(journalFile).toPath(), torn.getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        Planner recovered = reopen();
+        assertEquals(2, recovered.getTasks().length());
+    }
+
+    @Test
+    void testStaleHeaderSkipsJournal() throws IOException {
+        planner.getTasks().addItem(task("First"));
+        journal.commit();
+        planner.getTasks().addItem(task("Second"));
+        journal.commit();
+        Path stale = new File(dir, "stale.journal").toPath();
+        Files.copy(new File(journalFile).toPath(), stale);
+
+        journal.compact();
+        Files.move(stale, new File(journalFile).toPath(), StandardCopyOption.REPLACE_EXISTING);
+
+        Planner recovered = reopen();
+        assertEquals(2, recovered.getTasks().length());
+    }
+
+    @Test
+    void testCompactsAfterLimit() throws IOException {
+        planner.getTasks().addItem(task("Snapshot"));
+        Journal.PendingWrite snapshot = journal.takeCommit();
+        assertTrue(snapshot.isSnapshot());
+        snapshot.write();
+        for (int i = 1; i < COMPACT_AFTER; i++) {
+            planner.getTasks().addItem(task("Task " + i));
+            Journal.PendingWrite write = journal.takeCommit();
+            assertFalse(write.isSnapshot());
+            write.write();
+        }
+        assertEquals(COMPACT_AFTER, journalLines().size());
+
+        planner.getTasks().addItem(task("Last"));
+        Journal.PendingWrite write = journal.takeCommit();
+        assertTrue(write.isSnapshot());
+        write.write();
+        assertEquals(1, journalLines().size());
+        assertEquals(COMPACT_AFTER + 1, reopen().getTasks().length());
+    }
+
+    @Test
+    void testFailedWriteForcesSnapshot() throws IOException {
+        planner.getTasks().addItem(task("First"));
+        journal.commit();
+        new File(journalFile).delete();
+
+        planner.getTasks().addItem(task("Second"));
+        assertThrows(IOException.class, journal::commit);
+        assertFalse(journal.hasPendingChanges());
+
+        planner.getTasks().addItem(task("Third"));
+        Journal.PendingWrite write = journal.takeCommit();
+        assertTrue(write.isSnapshot());
+        write.write();
+        assertEquals(3, reopen().getTasks().length());
+    }
+
+    @Test
+    void testAppendAfterFailureRefused() throws IOException {
+        journal.commit();
+        planner.getTasks().addItem(task("First"));
+        Journal.PendingWrite first = journal.takeCommit();
+        planner.getTasks().addItem(task("Second"));
+        Journal.PendingWrite second = journal.takeCommit();
+        new File(journalFile).delete();
+
+        assertThrows(IOException.class, first::write);
+        assertThrows(IOException.class, second::write);
+    }
+
+    @Test
+    void testSnapshotMarksSectionsClean() throws IOException {
+        planner.getTasks().addItem(task("First"));
+        planner.getHabits().addTracker(new Tracker("Run"));
+        journal.commit();
+        assertFalse(planner.getTasks().isDirty());
+        assertFalse(planner.getHabits().isDirty());
+
+        planner.getTasks().addItem(task("Second"));
+        journal.commit();
+        assertTrue(planner.getTasks().isDirty());
+        assertFalse(planner.getAppointments().isDirty());
+        assertFalse(planner.getHabits().isDirty());
+
+        Planner recovered = reopen();
+        assertTrue(recovered.getTasks().isDirty());
+        assertFalse(recovered.getHabits().isDirty());
+    }
+
+    @Test
+    void testSnapshotTakenAsOfCommit() throws IOException {
+        planner.getTasks().addItem(task("First"));
+        Journal.PendingWrite write = journal.takeCommit();
+        planner.getTasks().getItem(0).toggleCompletion();
+        planner.getTasks().addItem(task("Second"));
+        write.write();
+
+        Planner recovered = reopen();
+        assertEquals(1, recovered.getTasks().length());
+        assertEquals(0, countComplete(recovered));
+    }
+
+    @Test
+    void testSnapshotKeepsTrackerHistoryPending() throws IOException {
+        Tracker tracker = new Tracker("Run");
+        tracker.addToTracker(1500000000000L);
+        tracker.addToTracker(1500100000000L);
+        planner.getHabits().addTracker(tracker);
+        journal.commit();
+
+        Journal reopened = new Journal(snapshotFile, journalFile, COMPACT_AFTER, 0);
+        Planner recovered = reopened.recover();
+        reopened.compact();
+        assertFalse(recovered.getHabits().getTracker(0).isHistoryLoaded());
+        assertEquals(1500000000000L, reopen().getHabits().getTracker(0).getTime(0));
+    }
+
+    int countComplete(Planner recovered) {
+        int count = 0;
+        for (int i = 0; i < recovered.getTasks().length(); i++) {
+            if (recovered.getTasks().getItem(i).isComplete()) {
+                count++;
+            }
+        }
+        return count;
+    }
+}
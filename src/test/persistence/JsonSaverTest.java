@@ -0,0 +1,166 @@
+package persistence;
+
+import model.Appointment;
+import model.Planner;
+import model.Task;
+import model.Tracker;
+import org.json.JSONObject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Calendar;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Unit tests for JsonSaver class
+class JsonSaverTest {
+    File dir;
+    String file;
+
+    @BeforeEach
+    void runBefore() throws IOException {
+        dir = Files.createTempDirectory("saver").toFile();
+        file = new File(dir, "s.json").getPath();
+    }
+
+    @AfterEach
+    void runAfter() {
+        for (File child : dir.listFiles()) {
+            child.delete();
+        }
+        dir.delete();
+    }
+
+    // EFFECTS: returns a planner holding the given number of tasks
+    Planner plannerWith(int tasks) {
+        Planner planner = new Planner();
+        for (int i = 0; i < tasks; i++) {
+            planner.getTasks().addItem(new Task("Task " + i, "", Calendar.getInstance()));
+        }
+        return planner;
+    }
+
+    // EFFECTS: saves a planner holding the given number of tasks atomically, keeping the
+    //          given number of generations
+    void saveAtomically(int tasks, int generations) throws IOException {
+        Planner planner = plannerWith(tasks);
+        JsonSaver saver = new JsonSaver(file, true, generations);
+        saver.open();
+        saver.save(planner.getAppointments(), planner.getTasks(), planner.getHabits());
+        saver.close();
+    }
+
+    // EFFECTS: returns a section that fails as soon as it is written
+    Saveable failingSection() {
+        return new Saveable() {
+            @Override
+            public JSONObject toJson() {
+                return new JSONObject();
+            }
+
+            @Override
+            public void write(JsonStreamWriter writer) throws IOException {
+                throw new IOException("disk full");
+            }
+        };
+    }
+
+    // EFFECTS: returns the contents of the given file
+    String readFile(String path) throws IOException {
+        return new String(Files.readAllBytes(Paths.get(path)), StandardCharsets.UTF_8);
+    }
+
+    // EFFECTS: returns the number of tasks saved at the given file
+    int tasksIn(String path) throws IOException {
+        return new JsonLoader(path).loadAll().getTasks().length();
+    }
+
+    @Test
+    void testStreamingSaveMatchesNonStreaming() throws IOException {
+        Planner planner = plannerWith(3);
+        planner.getAppointments().addItem(new Appointment("Dentist", "say \"ah\"", Calendar.getInstance(), 1, 30));
+        Tracker tracker = new Tracker("Run");
+        tracker.addToTracker(Calendar.getInstance());
+        planner.getHabits().addTracker(tracker);
+        planner.getTasks().getItem(1).toggleCompletion();
+        String streamed = new File(dir, "streamed.json").getPath();
+        for (boolean streaming : new boolean[] {false, true}) {
+            JsonSaver saver = new JsonSaver(streaming ? streamed : file, streaming);
+            saver.open();
+            saver.save(planner.getAppointments(), planner.getTasks(), planner.getHabits());
+            saver.close();
+        }
+
+        JSONObject expected = new JSONObject(readFile(file));
+        JSONObject actual = new JSONObject(readFile(streamed));
+        assertTrue(expected.similar(actual), actual + " differs from " + expected);
+    }
+
+    @Test
+    void testRotatesGenerations() throws IOException {
+        for (int tasks = 1; tasks <= 4; tasks++) {
+            saveAtomically(tasks, 2);
+        }
+        assertEquals(4, tasksIn(file));
+        assertEquals(3, tasksIn(file + ".1"));
+        assertEquals(2, tasksIn(file + ".2"));
+        assertFalse(new File(file + ".3").exists());
+        assertFalse(new File(file + ".tmp").exists());
+    }
+
+    @Test
+    void testGenerationKeptApartFromNewSave() throws IOException {
+        saveAtomically(1, 1);
+        saveAtomically(2, 1);
+        saveAtomically(3, 1);
+        assertEquals(3, tasksIn(file));
+        assertEquals(2, tasksIn(file + ".1"));
+        assertFalse(new File(file + ".2").exists());
+    }
+
+    @Test
+    void testNoGenerationsKept() throws IOException {
+        saveAtomically(1, 0);
+        saveAtomically(2, 0);
+        assertEquals(2, tasksIn(file));
+        assertFalse(new File(file + ".1").exists());
+        assertFalse(new File(file + ".tmp").exists());
+    }
+
+    @Test
+    void testFailedWriteLeavesSavesUntouched() throws IOException {
+        saveAtomically(1, 2);
+        saveAtomically(2, 2);
+        Saveable failing = failingSection();
+        Planner planner = plannerWith(3);
+        JsonSaver saver = new JsonSaver(file, true, 2);
+        saver.open();
+        assertThrows(IOException.class, () -> saver.saveSnapshot("id", planner.getAppointments(),
+                planner.getTasks(), failing));
+
+        assertEquals(2, tasksIn(file));
+        assertEquals(1, tasksIn(file + ".1"));
+        assertFalse(new File(file + ".2").exists());
+        saveAtomically(3, 2);
+        assertEquals(3, tasksIn(file));
+        assertEquals(2, tasksIn(file + ".1"));
+        assertEquals(1, tasksIn(file + ".2"));
+    }
+
+    @Test
+    void testFailedOpenLeavesSavesUntouched() throws IOException {
+        saveAtomically(1, 1);
+        saveAtomically(2, 1);
+        assertTrue(new File(file + ".tmp").mkdir());
+        assertThrows(IOException.class, () -> saveAtomically(3, 1));
+
+        assertEquals(2, tasksIn(file));
+        assertEquals(1, tasksIn(file + ".1"));
+    }
+}
@@ -0,0 +1,79 @@
+package persistence;
+
+import model.Planner;
+import model.Task;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Unit tests for JsonStreamLoader class
+class JsonStreamLoaderTest {
+    File file;
+
+    @BeforeEach
+    void runBefore() throws IOException {
+        file = File.createTempFile("planner", ".json");
+    }
+
+    @AfterEach
+    void runAfter() {
+        file.delete();
+    }
+
+    Planner load(String sections) throws IOException {
+        String json = "{\"saved schedule\": [" + sections + "]}";
+        Files.write(file.toPath(), json.getBytes(StandardCharsets.UTF_8));
+        return new JsonStreamLoader(file.getPath()).loadAll();
+    }
+
+    @Test
+    void testLoadAll() throws IOException {
+        Planner planner = load("{\"appointments\": [{\"name\": \"A\", \"description\": \"\", \"date\": 86400000,"
+                + " \"hours\": 1, \"minutes\": 30}]}, {\"tasks\": [{\"name\": \"T\", \"description\": \"d\","
+                + " \"due\": 0, \"completion\": true}]}, {\"habit trackers\": [{\"name\": \"H\","
+                + " \"times complete\": [{\"time\": 86400000}]}]}");
+        assertEquals(1, planner.getAppointments().length());
+        Task task = planner.getTasks().getItem(0);
+        assertEquals("T", task.getName());
+        assertTrue(task.isComplete());
+        assertEquals(0, task.getDue().getTimeInMillis());
+        assertEquals(1, planner.getHabits().getTracker(0).length());
+    }
+
+    @Test
+    void testAppointmentWithoutDate() {
+        IOException e = assertThrows(IOException.class, () -> load("{\"appointments\": [{\"name\": \"A\","
+                + " \"description\": \"\", \"hours\": 1, \"minutes\": 30}]}"));
+        assertTrue(e.getMessage().startsWith("Malformed planner file"));
+    }
+
+    @Test
+    void testTaskWithoutDue() {
+        assertThrows(IOException.class, () -> load("{\"tasks\": [{\"name\": \"T\", \"description\": \"\","
+                + " \"completion\": false}]}"));
+    }
+
+    @Test
+    void testTrackerDateWithoutTime() {
+        assertThrows(IOException.class, () -> load("{\"habit trackers\": [{\"name\": \"H\","
+                + " \"times complete\": [{}]}]}"));
+    }
+
+    @Test
+    void testTrackerWithoutName() {
+        assertThrows(IOException.class, () -> load("{\"habit trackers\": [{\"times complete\": []}]}"));
+    }
+
+    @Test
+    void testInvalidDate() {
+        assertThrows(IOException.class, () -> load("{\"appointments\": [{\"name\": \"A\", \"description\": \"\","
+                + " \"date\":-, \"hours\": 1, \"minutes\": 30}]}"));
+    }
+}
@@ -0,0 +1,160 @@
+package persistence;
+
+import model.Appointment;
+import model.Planner;
+import model.Task;
+import model.Tracker;
+import org.json.JSONArray;
+import org.json.JSONObject;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.util.Calendar;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Unit tests for JsonStreamWriter class
+class JsonStreamWriterTest {
+    static final String[] AWKWARD = {
+        "say \"hi\"",
+        "C:\\temp\\",
+        "tab\there\nnew line\r\b\f",
+        "\u0000\u0001\u001f\u007f",
+        "clef \ud834\udd1e and smile \ud83d\ude00",
+        "line\u2028separator\u2029paragraph",
+        "caf\u00e9 \u65e5\u672c"
+    };
+
+    File dir;
+    String file;
+
+    @BeforeEach
+    void runBefore() throws IOException {
+        dir = Files.createTempDirectory("writer").toFile();
+        file = new File(dir, "planner.json").getPath();
+    }
+
+    @AfterEach
+    void runAfter() {
+        for (File child : dir.listFiles()) {
+            child.delete();
+        }
+        dir.delete();
+    }
+
+    // EFFECTS: returns a planner with an appointment, task and tracker named and described
+    //          by each awkward string
+    Planner awkwardPlanner() {
+        Planner planner = new Planner();
+        for (String text : AWKWARD) {
+            planner.getAppointments().addItem(new Appointment(text, text, Calendar.getInstance(), 1, 0));
+            planner.getTasks().addItem(new Task(text, text, Calendar.getInstance()));
+            planner.getHabits().addTracker(new Tracker(text));
+        }
+        return planner;
+    }
+
+    // EFFECTS: saves the given planner to file by streaming
+    void saveStreaming(Planner planner) throws IOException {
+        JsonSaver saver = new JsonSaver(file, true);
+        saver.open();
+        saver.save(planner.getAppointments(), planner.getTasks(), planner.getHabits());
+        saver.close();
+    }
+
+    // EFFECTS: checks that the loaded planner holds every awkward string unchanged
+    void assertAwkward(Planner loaded) {
+        for (int i = 0; i < AWKWARD.length; i++) {
+            Appointment appointment = findAppointment(loaded, AWKWARD[i]);
+            assertEquals(AWKWARD[i], appointment.getDescription());
+            Task task = findTask(loaded, AWKWARD[i]);
+            assertEquals(AWKWARD[i], task.getDescription());
+            assertEquals(AWKWARD[i], loaded.getHabits().getTracker(i).getName());
+        }
+    }
+
+    // EFFECTS: returns the appointment with the given name, failing if there is none
+    Appointment findAppointment(Planner planner, String name) {
+        for (int i = 0; i < planner.getAppointments().length(); i++) {
+            if (planner.getAppointments().getItem(i).getName().equals(name)) {
+                return planner.getAppointments().getItem(i);
+            }
+        }
+        return fail("No appointment named " + name);
+    }
+
+    // EFFECTS: returns the task with the given name, failing if there is none
+    Task findTask(Planner planner, String name) {
+        for (int i = 0; i < planner.getTasks().length(); i++) {
+            if (planner.getTasks().getItem(i).getName().equals(name)) {
+                return planner.getTasks().getItem(i);
+            }
+        }
+        return fail("No task named " + name);
+    }
+
+    @Test
+    void testEscapedStringsParse() throws IOException {
+        StringWriter out = new StringWriter();
+        JsonStreamWriter writer = new JsonStreamWriter(out, 0);
+        writer.beginArray();
+        for (String text : AWKWARD) {
+            writer.beginObject().name(text).value(text).endObject();
+        }
+        writer.endArray().flush();
+
+        JSONArray parsed = new JSONArray(out.toString());
+        for (int i = 0; i < AWKWARD.length; i++) {
+            assertEquals(AWKWARD[i], parsed.getJSONObject(i).getString(AWKWARD[i]));
+        }
+        assertFalse(out.toString().contains("\n"));
+    }
+
+    @Test
+    void testIndentedLayout() throws IOException {
+        StringWriter out = new StringWriter();
+        JsonStreamWriter writer = new JsonStreamWriter(out, 2);
+        writer.beginObject().name("list").beginArray().value(1).value(true).endArray()
+                .name("empty").beginObject().endObject().endObject().flush();
+        assertEquals("{\n  \"list\": [\n    1,\n    true\n  ],\n  \"empty\": {}\n}", out.toString());
+    }
+
+    @Test
+    void testMisplacedTokensRefused() throws IOException {
+        JsonStreamWriter writer = new JsonStreamWriter(new StringWriter(), 0);
+        assertThrows(IllegalStateException.class, () -> writer.name("outside"));
+        writer.beginArray();
+        assertThrows(IllegalStateException.class, writer::endObject);
+        writer.endArray();
+        assertThrows(IllegalStateException.class, () -> writer.value(1));
+    }
+
+    @Test
+    void testAwkwardStringsRoundTripThroughJsonLoader() throws IOException {
+        saveStreaming(awkwardPlanner());
+        assertAwkward(new JsonLoader(file).loadAll());
+    }
+
+    @Test
+    void testAwkwardStringsRoundTripThroughJsonStreamLoader() throws IOException {
+        saveStreaming(awkwardPlanner());
+        assertAwkward(new JsonStreamLoader(file).loadAll());
+    }
+
+    @Test
+    void testAwkwardStringsRoundTripThroughParallelJsonLoader() throws IOException {
+        saveStreaming(awkwardPlanner());
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            assertAwkward(new ParallelJsonLoader(file, false, pool).loadAll());
+        } finally {
+            pool.shutdown();
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package persistence;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Unit tests for JsonTokenizer class
+class JsonTokenizerTest {
+
+    JsonTokenizer tokenizer(String json) {
+        return new JsonTokenizer(new StringReader(json));
+    }
+
+    @Test
+    void testEscapes() throws IOException {
+        JsonTokenizer reader = tokenizer("[\"a\\\"b\\\\c\\/d\\n\\t\\u00e9\"]");
+        reader.beginArray();
+        assertEquals("a\"b\\c/d\n\t\u00e9", reader.nextString());
+        reader.endArray();
+        assertEquals(JsonTokenizer.Token.END_DOCUMENT, reader.peek());
+    }
+
+    @Test
+    void testNestedValues() throws IOException {
+        JsonTokenizer reader = tokenizer("{\"a\": [1, {\"b\": true}], \"c\": -2.5e1, \"d\": false}");
+        reader.beginObject();
+        assertEquals("a", reader.nextName());
+        reader.beginArray();
+        assertEquals(1, reader.nextLong());
+        reader.beginObject();
+        assertEquals("b", reader.nextName());
+        assertTrue(reader.nextBoolean());
+        reader.endObject();
+        assertFalse(reader.hasNext());
+        reader.endArray();
+        assertEquals("c", reader.nextName());
+        assertEquals(-25, reader.nextLong());
+        assertEquals("d", reader.nextName());
+        assertFalse(reader.nextBoolean());
+        reader.endObject();
+    }
+
+    @Test
+    void testSkipValue() throws IOException {
+        JsonTokenizer reader = tokenizer("{\"skip\": {\"x\": [1, \"]\", null, {}]}, \"keep\": 7}");
+        reader.beginObject();
+        assertEquals("skip", reader.nextName());
+        reader.skipValue();
+        assertEquals("keep", reader.nextName());
+        assertEquals(7, reader.nextLong());
+        reader.endObject();
+    }
+
+    @Test
+    void testSkipRawValue() throws IOException {
+        String json = "[{\"a\": \"}\"}, 3]";
+        JsonTokenizer reader = tokenizer(json);
+        reader.beginArray();
+        reader.peek();
+        long start = reader.valueStart();
+        reader.skipRawValue();
+        assertEquals("{\"a\": \"}\"}", json.substring((int) start, (int) reader.position()));
+        assertEquals(3, reader.nextLong());
+        reader.endArray();
+    }
+
+    @Test
+    void testInvalidNumber() throws IOException {
+        JsonTokenizer reader = tokenizer("{\"date\":-}");
+        reader.beginObject();
+        reader.nextName();
+        assertThrows(IOException.class, reader::nextLong);
+    }
+
+    @Test
+    void testNonJsonNumber() throws IOException {
+        JsonTokenizer reader = tokenizer("[1d]");
+        reader.beginArray();
+        assertThrows(IOException.class, reader::nextLong);
+    }
+
+    @Test
+    void testInvalidLiterals() throws IOException {
+        JsonTokenizer reader = tokenizer("[tru, nul]");
+        reader.beginArray();
+        assertThrows(IOException.class, reader::nextBoolean);
+        JsonTokenizer skipped = tokenizer("[nul]");
+        skipped.beginArray();
+        assertThrows(IOException.class, skipped::skipValue);
+    }
+
+    @Test
+    void testUnterminatedString() throws IOException {
+        JsonTokenizer reader = tokenizer("[\"abc");
+        reader.beginArray();
+        assertThrows(IOException.class, reader::nextString);
+    }
+
+    @Test
+    void testMissingColon() throws IOException {
+        JsonTokenizer reader = tokenizer("{\"a\" 1}");
+        reader.beginObject();
+        assertThrows(IOException.class, () -> {
+            reader.nextName();
+            reader.nextLong();
+        });
+    }
+
+    @Test
+    void testWrongToken() throws IOException {
+        JsonTokenizer reader = tokenizer("[1]");
+        assertThrows(IOException.class, reader::beginObject);
+    }
+
+    @Test
+    void testSkipPastEnd() throws IOException {
+        JsonTokenizer reader = tokenizer("{\"a\": [1, 2");
+        reader.beginObject();
+        reader.nextName();
+        assertThrows(IOException.class, reader::skipValue);
+    }
+}
@@ -0,0 +1,109 @@
+package persistence;
+
+import model.Appointment;
+import model.Planner;
+import model.Task;
+import model.Tracker;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Unit tests for MappedPlanner class
+class MappedPlannerTest {
+    static final long DAY = 24 * 60 * 60 * 1000L;
+    File file;
+    Planner planner;
+
+    @BeforeEach
+    void runBefore() throws IOException {
+        file = File.createTempFile("planner", ".bin");
+        planner = new Planner();
+        Calendar date = Calendar.getInstance();
+        date.setTimeInMillis(1600000000000L);
+        planner.getAppointments().addItem(new Appointment("Dentist", "Checkup", date, 1, 30));
+        planner.getTasks().addItem(new Task("Essay", "First draft", date));
+        Tracker tracker = new Tracker("Run");
+        for (int i = 0; i < 50; i++) {
+            tracker.addToTracker(1500000000000L + i * 2 * DAY);
+        }
+        planner.getHabits().addTracker(tracker);
+        planner.getHabits().addTracker(new Tracker("Read"));
+        BinarySaver saver = new BinarySaver(file.getPath());
+        saver.open();
+        saver.save(planner.getAppointments(), planner.getTasks(), planner.getHabits());
+        saver.close();
+    }
+
+    @AfterEach
+    void runAfter() {
+        file.delete();
+    }
+
+    @Test
+    void testSections() throws IOException {
+        MappedPlanner mapped = new MappedPlanner(file.getPath());
+        List<Appointment> appointments = mapped.getAppointments();
+        assertEquals(1, appointments.size());
+        assertTrue(planner.getAppointments().getItem(0).toJson().similar(appointments.get(0).toJson()));
+        List<Task> tasks = mapped.getTasks();
+        assertEquals(1, tasks.size());
+        assertTrue(planner.getTasks().getItem(0).toJson().similar(tasks.get(0).toJson()));
+    }
+
+    @Test
+    void testTrackersLoadHistoryLazily() throws IOException {
+        MappedPlanner mapped = new MappedPlanner(file.getPath());
+        List<Tracker> trackers = mapped.getTrackers();
+        assertEquals(2, trackers.size());
+        Tracker run = trackers.get(0);
+        assertFalse(run.isHistoryLoaded());
+        assertEquals(50, run.length());
+        assertEquals("Run", mapped.getTrackerName(0));
+        assertEquals(50, mapped.getTrackerLength(0));
+        assertEquals(0, mapped.getTrackerLength(1));
+        assertTrue(planner.getHabits().getTracker(0).toJson().similar(run.toJson()));
+        assertTrue(run.isHistoryLoaded());
+    }
+
+    @Test
+    void testMalformedRecord() throws IOException {
+        byte[] bytes = Files.readAllBytes(file.toPath());
+        Files.write(file.toPath(), Arrays.copyOf(bytes, bytes.length - 1));
+        assertThrows(IOException.class, () -> new MappedPlanner(file.getPath()));
+    }
+
+    @Test
+    void testCorruptTrackerFailsWhenFetched() throws IOException {
+        BinaryWriter out = new BinaryWriter();
+        BinaryWriter record = new BinaryWriter();
+        BinaryFormat.writeHeader(out);
+        out.writeVarLong(0);
+        out.writeVarLong(0);
+        out.writeVarLong(1);
+        record.writeString("Run");
+        record.writeVarLong(-1);
+        out.writeRecord(record);
+        Files.write(file.toPath(), out.toByteArray());
+        MappedPlanner mapped = new MappedPlanner(file.getPath());
+        assertThrows(UncheckedIOException.class, () -> mapped.getTrackers().get(0));
+    }
+
+    @Test
+    void testTooLargeToMap() throws IOException {
+        try (RandomAccessFile large = new RandomAccessFile(file, "rw")) {
+            large.setLength(Integer.MAX_VALUE + 1L);
+        }
+        assertThrows(IOException.class, () -> new MappedPlanner(file.getPath()));
+    }
+}
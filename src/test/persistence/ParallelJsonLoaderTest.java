@@ -0,0 +1,126 @@
+package persistence;
+
+import model.Appointment;
+import model.Planner;
+import model.Task;
+import model.Tracker;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Calendar;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Unit tests for ParallelJsonLoader class
+class ParallelJsonLoaderTest {
+    static final long DAY = 24 * 60 * 60 * 1000L;
+    static final int ITEMS = 5000;
+    File file;
+    ForkJoinPool pool;
+
+    @BeforeEach
+    void runBefore() throws IOException {
+        file = File.createTempFile("planner", ".json");
+        pool = new ForkJoinPool(4);
+        Planner planner = new Planner();
+        Calendar date = Calendar.getInstance();
+        for (int i = 0; i < ITEMS; i++) {
+            date.setTimeInMillis(1600000000000L + (i * 7919L % ITEMS) * DAY);
+            planner.getAppointments().addItem(new Appointment("Caf\u00e9 " + i, "\u4f1a\u8b70 " + i, date, 1, i % 60));
+            planner.getTasks().addItem(new Task("T\u00e2che " + i, "Description " + i, date));
+        }
+        for (int i = 0; i < 40; i++) {
+            Tracker tracker = new Tracker("Habit \u00e9 " + i);
+            for (int j = 0; j < 200; j++) {
+                tracker.addToTracker(1500000000000L + j * DAY + i);
+            }
+            planner.getHabits().addTracker(tracker);
+        }
+        JsonSaver saver = new JsonSaver(file.getPath(), true);
+        saver.open();
+        saver.save(planner.getAppointments(), planner.getTasks(), planner.getHabits());
+        saver.close();
+    }
+
+    @AfterEach
+    void runAfter() {
+        pool.shutdown();
+        file.delete();
+    }
+
+    void assertSamePlanner(Planner expected, Planner actual) {
+        assertTrue(expected.getAppointments().toJson().similar(actual.getAppointments().toJson()));
+        assertTrue(expected.getTasks().toJson().similar(actual.getTasks().toJson()));
+        assertTrue(expected.getHabits().toJson().similar(actual.getHabits().toJson()));
+    }
+
+    @Test
+    void testSameAsStreamingAcrossManyChunks() throws IOException {
+        assertTrue(file.length() > 16 * (1 << 16));
+        Planner expected = new JsonStreamLoader(file.getPath()).loadAll();
+        Planner actual = new ParallelJsonLoader(file.getPath(), false, pool).loadAll();
+        assertEquals(ITEMS, actual.getAppointments().length());
+        assertEquals(ITEMS, actual.getTasks().length());
+        assertEquals(40, actual.getHabits().numberOfTrackers());
+        assertSamePlanner(expected, actual);
+    }
+
+    @Test
+    void testLazyHistories() throws IOException {
+        Planner expected = new JsonStreamLoader(file.getPath()).loadAll();
+        Planner actual = new ParallelJsonLoader(file.getPath(), true, pool).loadAll();
+        assertFalse(actual.getHabits().getTracker(0).isHistoryLoaded());
+        assertSamePlanner(expected, actual);
+    }
+
+    @Test
+    void testSingleThreadStreams() throws IOException {
+        ForkJoinPool single = new ForkJoinPool(1);
+        Planner expected = new JsonStreamLoader(file.getPath()).loadAll();
+        assertSamePlanner(expected, new ParallelJsonLoader(file.getPath(), false, single).loadAll());
+        single.shutdown();
+    }
+
+    @Test
+    void testProgressAndSnapshotId() throws IOException {
+        String json = new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+        Files.write(file.toPath(), ("{\"snapshot id\":\"abc\"," + json.substring(1)).getBytes(StandardCharsets.UTF_8));
+        List<Integer> reported = new ArrayList<>();
+        ParallelJsonLoader loader = new ParallelJsonLoader(file.getPath(), true, pool);
+        loader.setProgressListener(percent -> {
+            synchronized (reported) {
+                reported.add(percent);
+            }
+        });
+        loader.loadAll();
+        assertEquals("abc", loader.getSnapshotId());
+        assertTrue(reported.size() > 1);
+        for (int i = 1; i < reported.size(); i++) {
+            assertTrue(reported.get(i) > reported.get(i - 1));
+        }
+        assertTrue(reported.get(reported.size() - 1) >= 90);
+    }
+
+    @Test
+    void testMalformedElement() throws IOException {
+        String json = new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8);
+        Files.write(file.toPath(), json.replaceFirst("\"due\":", "\"overdue\":").getBytes(StandardCharsets.UTF_8));
+        assertThrows(IOException.class, () -> new ParallelJsonLoader(file.getPath(), false, pool).loadAll());
+    }
+
+    @Test
+    void testTruncatedFile() throws IOException {
+        byte[] bytes = Files.readAllBytes(file.toPath());
+        Files.write(file.toPath(), Arrays.copyOf(bytes, bytes.length / 2));
+        assertThrows(IOException.class, () -> new ParallelJsonLoader(file.getPath(), false, pool).loadAll());
+    }
+}
@@ -0,0 +1,90 @@
+package persistence;
+
+import model.Planner;
+import model.Task;
+import model.Tracker;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Calendar;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Unit tests for SectionStore class
+class SectionStoreTest {
+    static final FileTime OLD = FileTime.fromMillis(1000000000000L);
+    File dir;
+    SectionStore store;
+
+    @BeforeEach
+    void runBefore() throws IOException {
+        dir = Files.createTempDirectory("sections").toFile();
+        store = new SectionStore(dir.getPath());
+    }
+
+    @AfterEach
+    void runAfter() {
+        for (File file : dir.listFiles()) {
+            file.delete();
+        }
+        dir.delete();
+    }
+
+    Path section(String file) {
+        return new File(dir, file).toPath();
+    }
+
+    void ageSections() throws IOException {
+        for (String file : new String[] {"appointments.json", "tasks.json", "habits.json"}) {
+            Files.setLastModifiedTime(section(file), OLD);
+        }
+    }
+
+    @Test
+    void testFirstSaveWritesEverySection() throws IOException {
+        assertEquals(3, store.save(new Planner()));
+        assertTrue(Files.exists(section("appointments.json")));
+        assertTrue(Files.exists(section("tasks.json")));
+        assertTrue(Files.exists(section("habits.json")));
+        assertEquals(0, store.save(new Planner()));
+    }
+
+    @Test
+    void testOnlyDirtySectionsRewritten() throws IOException {
+        Planner planner = new Planner();
+        store.save(planner);
+        ageSections();
+
+        planner.getTasks().addItem(new Task("Essay", "", Calendar.getInstance()));
+        assertEquals(1, store.save(planner));
+        assertNotEquals(OLD, Files.getLastModifiedTime(section("tasks.json")));
+        assertEquals(OLD, Files.getLastModifiedTime(section("appointments.json")));
+        assertEquals(OLD, Files.getLastModifiedTime(section("habits.json")));
+        assertFalse(planner.getTasks().isDirty());
+    }
+
+    @Test
+    void testLoadedPlannerIsClean() throws IOException {
+        Planner planner = new Planner();
+        planner.getTasks().addItem(new Task("Essay", "", Calendar.getInstance()));
+        planner.getHabits().addTracker(new Tracker("Run"));
+        store.save(planner);
+        ageSections();
+
+        Planner loaded = store.load();
+        assertEquals(1, loaded.getTasks().length());
+        assertEquals("Run", loaded.getHabits().getTracker(0).getName());
+        assertEquals(0, store.save(loaded));
+
+        loaded.getHabits().getTracker(0).markDone();
+        assertEquals(1, store.save(loaded));
+        assertEquals(OLD, Files.getLastModifiedTime(section("tasks.json")));
+        assertNotEquals(OLD, Files.getLastModifiedTime(section("habits.json")));
+    }
+}
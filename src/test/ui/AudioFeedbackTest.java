@@ -0,0 +1,28 @@
+package ui;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Unit tests for AudioFeedback class
+class AudioFeedbackTest {
+
+    @Test
+    void testSilent() {
+        AudioFeedback feedback = AudioFeedback.silent();
+        assertFalse(feedback.isEnabled());
+        feedback.play();
+        feedback.close();
+        assertFalse(feedback.isEnabled());
+    }
+
+    @Test
+    void testMissingSound() {
+        AudioFeedback feedback = new AudioFeedback("./data/no-such-sound.wav");
+        assertFalse(feedback.isEnabled());
+        feedback.play();
+        feedback.close();
+        feedback.close();
+        assertFalse(feedback.isEnabled());
+    }
+}
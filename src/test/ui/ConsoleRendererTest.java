@@ -0,0 +1,89 @@
+package ui;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Unit tests for ConsoleRenderer class
+class ConsoleRendererTest {
+    ByteArrayOutputStream out;
+    ConsoleRenderer renderer;
+    List<Integer> asked;
+
+    @BeforeEach
+    void runBefore() {
+        out = new ByteArrayOutputStream();
+        renderer = new ConsoleRenderer(new PrintStream(out), ConsoleRenderer.PAGE_LINES);
+        asked = new ArrayList<>();
+    }
+
+    void addLines(int count) {
+        for (int i = 0; i < count; i++) {
+            renderer.line("line " + i);
+        }
+    }
+
+    int linesWritten() {
+        return out.toString().split("\n", -1).length - 1;
+    }
+
+    @Test
+    void testPagesAtFortyLines() {
+        assertEquals(40, ConsoleRenderer.PAGE_LINES);
+        addLines(100);
+        renderer.flush(() -> {
+            asked.add(linesWritten());
+            return true;
+        });
+        assertEquals("[40, 80]", asked.toString());
+        assertEquals(100, linesWritten());
+    }
+
+    @Test
+    void testStopsWhenToldNotToGoOn() {
+        addLines(100);
+        renderer.flush(() -> false);
+        assertEquals(40, linesWritten());
+        assertTrue(out.toString().startsWith("line 0\n"));
+        assertTrue(out.toString().endsWith("line 39\n"));
+    }
+
+    @Test
+    void testFullPageNotAskedAbout() {
+        addLines(40);
+        renderer.flush(() -> {
+            asked.add(linesWritten());
+            return true;
+        });
+        assertTrue(asked.isEmpty());
+        assertEquals(40, linesWritten());
+    }
+
+    @Test
+    void testNoPagingWritesAllAtOnce() {
+        renderer = new ConsoleRenderer(new PrintStream(out), 0);
+        addLines(100);
+        renderer.flush(() -> {
+            asked.add(linesWritten());
+            return false;
+        });
+        assertTrue(asked.isEmpty());
+        assertEquals(100, linesWritten());
+    }
+
+    @Test
+    void testFlushStartsNewListing() {
+        addLines(50);
+        renderer.flush(() -> false);
+        out.reset();
+        addLines(3);
+        renderer.flush();
+        assertEquals("line 0\nline 1\nline 2\n", out.toString());
+    }
+}
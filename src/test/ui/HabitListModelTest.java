@@ -0,0 +1,113 @@
+package ui;
+
+import model.HabitTrackers;
+import model.Tracker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.swing.event.ListDataEvent;
+import javax.swing.event.ListDataListener;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Unit tests for HabitListModel class
+class HabitListModelTest {
+    HabitTrackers habits;
+    HabitListModel model;
+    List<String> events;
+
+    @BeforeEach
+    void runBefore() {
+        habits = new HabitTrackers();
+        habits.addTracker(new Tracker("Run"));
+        habits.addTracker(new Tracker("Read"));
+        model = new HabitListModel(habits);
+        events = new ArrayList<>();
+        model.addListDataListener(new ListDataListener() {
+            @Override
+            public void intervalAdded(ListDataEvent e) {
+                events.add("added " + e.getIndex0() + "-" + e.getIndex1());
+            }
+
+            @Override
+            public void intervalRemoved(ListDataEvent e) {
+                events.add("removed " + e.getIndex0() + "-" + e.getIndex1());
+            }
+
+            @Override
+            public void contentsChanged(ListDataEvent e) {
+                events.add("changed " + e.getIndex0() + "-" + e.getIndex1());
+            }
+        });
+    }
+
+    @Test
+    void testShowsHabits() {
+        assertEquals(2, model.getSize());
+        assertEquals("Read", model.getElementAt(1).getName());
+    }
+
+    @Test
+    void testAddFiresAdded() {
+        habits.addTracker(new Tracker("Swim"));
+        assertEquals(3, model.getSize());
+        assertEquals("[added 2-2]", events.toString());
+    }
+
+    @Test
+    void testRemoveFiresRemoved() {
+        habits.removeTracker(0);
+        assertEquals(1, model.getSize());
+        assertEquals("[removed 0-0]", events.toString());
+    }
+
+    @Test
+    void testMarkFiresChanged() {
+        habits.getTracker(1).markDone();
+        habits.getTracker(1).unmarkDone();
+        assertEquals("[changed 1-1, changed 1-1]", events.toString());
+    }
+
+    @Test
+    void testSetHabitsReplacesRows() {
+        HabitTrackers other = new HabitTrackers();
+        other.addTracker(new Tracker("Swim"));
+        other.addTracker(new Tracker("Cook"));
+        other.addTracker(new Tracker("Sleep"));
+        model.setHabits(other);
+        assertEquals("[removed 0-1, added 0-2]", events.toString());
+        assertEquals("Swim", model.getElementAt(0).getName());
+
+        events.clear();
+        habits.getTracker(0).markDone();
+        assertTrue(events.isEmpty());
+        other.getTracker(2).markDone();
+        assertEquals("[changed 2-2]", events.toString());
+    }
+
+    @Test
+    void testSetEmptyHabitsFiresNothing() {
+        HabitListModel empty = new HabitListModel(new HabitTrackers());
+        List<ListDataEvent> fired = new ArrayList<>();
+        empty.addListDataListener(new ListDataListener() {
+            @Override
+            public void intervalAdded(ListDataEvent e) {
+                fired.add(e);
+            }
+
+            @Override
+            public void intervalRemoved(ListDataEvent e) {
+                fired.add(e);
+            }
+
+            @Override
+            public void contentsChanged(ListDataEvent e) {
+                fired.add(e);
+            }
+        });
+        empty.setHabits(new HabitTrackers());
+        assertTrue(fired.isEmpty());
+    }
+}
@@ -0,0 +1,121 @@
+package ui;
+
+import model.Appointment;
+import model.ScheduledList;
+import model.Task;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.swing.event.ListDataEvent;
+import javax.swing.event.ListDataListener;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Unit tests for ScheduledListModel class
+class ScheduledListModelTest {
+    static final long DAY = 24 * 60 * 60 * 1000L;
+    ScheduledList<Task> tasks;
+    ScheduledListModel<Task> model;
+    List<String> events;
+
+    @BeforeEach
+    void runBefore() {
+        tasks = new ScheduledList<>("tasks");
+        tasks.addItem(task("First", 1));
+        tasks.addItem(task("Third", 3));
+        model = new ScheduledListModel<>(tasks);
+        events = new ArrayList<>();
+        model.addListDataListener(new ListDataListener() {
+            @Override
+            public void intervalAdded(ListDataEvent e) {
+                events.add("added " + e.getIndex0() + "-" + e.getIndex1());
+            }
+
+            @Override
+            public void intervalRemoved(ListDataEvent e) {
+                events.add("removed " + e.getIndex0() + "-" + e.getIndex1());
+            }
+
+            @Override
+            public void contentsChanged(ListDataEvent e) {
+                events.add("changed " + e.getIndex0() + "-" + e.getIndex1());
+            }
+        });
+    }
+
+    Task task(String name, int day) {
+        Calendar due = Calendar.getInstance();
+        due.setTimeInMillis(1600000000000L + day * DAY);
+        return new Task(name, "", due);
+    }
+
+    @Test
+    void testShowsItemsInOrder() {
+        assertEquals(2, model.getSize());
+        assertEquals("First", model.getElementAt(0).getName());
+        assertEquals("Third", model.getElementAt(1).getName());
+    }
+
+    @Test
+    void testAddFiresAddedAtSortedRow() {
+        tasks.addItem(task("Second", 2));
+        assertEquals("Second", model.getElementAt(1).getName());
+        assertEquals("[added 1-1]", events.toString());
+    }
+
+    @Test
+    void testRemoveFiresRemoved() {
+        tasks.removeItem(tasks.getItem(1));
+        assertEquals(1, model.getSize());
+        assertEquals("[removed 1-1]", events.toString());
+    }
+
+    @Test
+    void testToggleFiresChanged() {
+        tasks.getItem(1).toggleCompletion();
+        assertEquals("[changed 1-1]", events.toString());
+    }
+
+    @Test
+    void testSetListReplacesRows() {
+        ScheduledList<Task> other = new ScheduledList<>("tasks");
+        other.addItem(task("Only", 5));
+        model.setList(other);
+        assertEquals("[removed 0-1, added 0-0]", events.toString());
+        assertEquals("Only", model.getElementAt(0).getName());
+
+        events.clear();
+        tasks.getItem(0).toggleCompletion();
+        assertTrue(events.isEmpty());
+        other.addItem(task("Earlier", 4));
+        assertEquals("[added 0-0]", events.toString());
+    }
+
+    @Test
+    void testAppointments() {
+        ScheduledList<Appointment> appointments = new ScheduledList<>("appointments");
+        ScheduledListModel<Appointment> appointmentModel = new ScheduledListModel<>(appointments);
+        List<ListDataEvent> added = new ArrayList<>();
+        appointmentModel.addListDataListener(new ListDataListener() {
+            @Override
+            public void intervalAdded(ListDataEvent e) {
+                added.add(e);
+            }
+
+            @Override
+            public void intervalRemoved(ListDataEvent e) {
+            }
+
+            @Override
+            public void contentsChanged(ListDataEvent e) {
+            }
+        });
+        appointments.addItem(new Appointment("Dentist", "", Calendar.getInstance(), 1, 0));
+        assertEquals(1, appointmentModel.getSize());
+        assertEquals(1, added.size());
+        assertEquals(0, added.get(0).getIndex0());
+    }
+}
@@ -0,0 +1,45 @@
+package ui;
+
+import model.Task;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.swing.JList;
+import java.util.Calendar;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Unit tests for TaskCellRenderer class
+class TaskCellRendererTest {
+    TaskCellRenderer renderer;
+    JList<Task> list;
+
+    @BeforeEach
+    void runBefore() {
+        renderer = new TaskCellRenderer("yyyy-MM-dd");
+        list = new JList<>();
+    }
+
+    @Test
+    void testRendersDueDate() {
+        Calendar due = Calendar.getInstance();
+        due.clear();
+        due.set(2026, Calendar.MARCH, 4, 9, 0);
+        Task task = new Task("Essay", "Draft", due);
+        task.toggleCompletion();
+        renderer.getListCellRendererComponent(list, task, 0, false, false);
+        assertEquals("Essay - due 2026-03-04", renderer.getText());
+        assertEquals("Draft", renderer.getToolTipText());
+        assertTrue(renderer.isSelected());
+    }
+
+    @Test
+    void testRendersTaskWithoutDueDate() {
+        Task task = new Task();
+        task.setName("Someday");
+        renderer.getListCellRendererComponent(list, task, 0, false, false);
+        assertEquals("Someday - no due date", renderer.getText());
+        assertNull(renderer.getToolTipText());
+        assertFalse(renderer.isSelected());
+    }
+}